@@ -4,16 +4,26 @@
 package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform;
 
 import java.io.IOException;
-import java.lang.reflect.ParameterizedType;
+import java.nio.file.Paths;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.data.AdapterStateSnapshotStore;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.data.ConditionalGetCache;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.data.DescriptorInterner;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.data.FleetIndex;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.data.JabraItemsPageHttpMessageConverter;
 import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.data.JabraSettingsHttpMessageConverter;
 import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.data.JabraSettingsValuespaceHttpMessageConverter;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.data.PendingSettingsStore;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.data.ValuespaceDiskCache;
 import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.settings.*;
 import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.settings.valuespace.SettingDescriptor;
 import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.settings.valuespace.SettingsValuespace;
@@ -26,7 +36,6 @@ import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import javax.security.auth.login.FailedLoginException;
 import org.apache.commons.collections.CollectionUtils;
@@ -44,19 +53,32 @@ import com.avispl.symphony.api.dal.monitor.Monitorable;
 import com.avispl.symphony.api.dal.monitor.aggregator.Aggregator;
 import com.avispl.symphony.dal.communicator.RestCommunicator;
 import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.bases.BaseProperty;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common.CircuitBreakers;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common.NegativeCache;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common.PropertyKeyTable;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common.RequestExecutor;
 import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common.RequestStateHandler;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common.RetrievalPipeline;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common.RetryAfterGate;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common.SettingsPollingTiers;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common.SingleFlight;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common.TokenBucketRateLimiter;
 import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common.Util;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common.WeightedLruCache;
 import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common.constants.ApiConstant;
 import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common.constants.Constant;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.AdapterStateSnapshot;
 import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.IntervalSetting;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.ItemsPage;
 import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.device.Computer;
 import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.device.Device;
 import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.device.JabraClient;
 import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.requests.SettingsRequest;
 import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.requests.SettingsRequest.OptionDetail;
-import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.rooms.DeviceOverview;
 import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.rooms.Room;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.rooms.RoomsSnapshot;
 import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.types.adapter.ClientTypeFilter;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.types.adapter.EndpointFamily;
 import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.types.adapter.RetrievalType;
 import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.types.aggregated.AggregatedGeneralProperty;
 import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.types.aggregated.ClientProperty;
@@ -64,6 +86,7 @@ import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.typ
 import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.types.aggregated.OptionalGeneralProperty;
 import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.types.aggregated.SettingProperty;
 import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.types.aggregator.GeneralProperty;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.types.aggregator.MetricProperty;
 import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.types.aggregator.RoomProperty;
 import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.data.JabraCloudRequestInterceptor;
 import com.avispl.symphony.dal.util.StringUtils;
@@ -80,10 +103,21 @@ import static com.avispl.symphony.dal.util.ControllablePropertyFactory.*;
 public class JabraCloudCommunicator extends RestCommunicator implements Monitorable, Controller, Aggregator {
 	private static final Set<String> DEFAULT_GRAPH_PROPERTIES = new HashSet<>(Arrays.asList(
 			GeneralProperty.LAST_MONITORING_CYCLE_DURATION.getName(),
+			GeneralProperty.LAST_SETTINGS_CYCLE_DURATION.getName(),
 			GeneralProperty.MONITORED_DEVICES_TOTAL.getName()
 	));
 	private static final long UPDATED_SETTINGS_CACHE_EXPIRY_TIME = Duration.ofMinutes(5).toMillis();
 	private static final long SETTING_UPDATE_TIME = Duration.ofMinutes(3).toMillis();
+	private static final PropertyKeyTable<GeneralProperty> GENERAL_PROPERTY_KEYS = PropertyKeyTable.of(GeneralProperty.class, null);
+	private static final PropertyKeyTable<MetricProperty> METRIC_PROPERTY_KEYS = PropertyKeyTable.of(MetricProperty.class, Constant.ADAPTER_METRICS_GROUP);
+	private static final PropertyKeyTable<AggregatedGeneralProperty> AGGREGATED_GENERAL_PROPERTY_KEYS = PropertyKeyTable.of(AggregatedGeneralProperty.class, null);
+	private static final PropertyKeyTable<OptionalGeneralProperty> OPTIONAL_GENERAL_PROPERTY_KEYS = PropertyKeyTable.of(OptionalGeneralProperty.class, null);
+	private static final PropertyKeyTable<ComputerProperty> COMPUTER_PROPERTY_KEYS = PropertyKeyTable.of(ComputerProperty.class, Constant.AGGREGATED_COMPUTER_GROUP);
+	private static final PropertyKeyTable<ClientProperty> CLIENT_PROPERTY_KEYS = PropertyKeyTable.of(ClientProperty.class, Constant.AGGREGATED_CLIENT_GROUP);
+	private static final PropertyKeyTable<SettingProperty> SETTING_PROPERTY_KEYS = PropertyKeyTable.of(SettingProperty.class, Constant.AGGREGATED_SETTINGS_GROUP);
+	private static final String APPLY_PROPERTY_KEY = SETTING_PROPERTY_KEYS.getKey(SettingProperty.APPLY);
+	private static final String CANCEL_PROPERTY_KEY = SETTING_PROPERTY_KEYS.getKey(SettingProperty.CANCEL);
+	private static final String NULL_SETTING_PROPERTY_KEY = String.format(Constant.PROPERTY_FORMAT, Constant.AGGREGATED_SETTINGS_GROUP, null);
 
 	/**
 	 * Lock for thread-safe operations.
@@ -105,6 +139,110 @@ public class JabraCloudCommunicator extends RestCommunicator implements Monitora
 	 * API Version value for API header use
 	 * */
 	private String apiVersion = "1";
+	/**
+	 * Number of devices processed in parallel during the device settings collection
+	 * */
+	private int deviceSettingsConcurrency = 1;
+	/**
+	 * Whether outbound requests are executed on virtual threads (Java 21+)
+	 * */
+	private boolean virtualThreadsEnabled = false;
+	/**
+	 * Maximum number of outbound requests executed asynchronously at the same time
+	 * */
+	private int maxConcurrentRequests = 10;
+	/**
+	 * Whether device settings are polled adaptively, with stable devices moved to a slower polling tier
+	 * */
+	private boolean adaptiveSettingsPolling = false;
+	/**
+	 * Polling interval multiplier of the cold tier, relative to the device settings interval
+	 * */
+	private int settingsColdTierMultiplier = 10;
+	/**
+	 * Polling tiers of the device settings, available when {@link #adaptiveSettingsPolling} is enabled
+	 * */
+	private SettingsPollingTiers settingsPollingTiers;
+	/**
+	 * Sustained rate of outbound API requests per second, 0 disables rate limiting
+	 * */
+	private double apiRequestsPerSecond = 0;
+	/**
+	 * Number of outbound API requests allowed in a burst above {@link #apiRequestsPerSecond}
+	 * */
+	private int apiRequestBurst = 10;
+	/**
+	 * Rate limiter of all outbound API requests, available when {@link #apiRequestsPerSecond} is greater than 0
+	 * */
+	private TokenBucketRateLimiter rateLimiter;
+	/**
+	 * Number of consecutive failures after which the circuit breaker of an endpoint family opens
+	 * */
+	private int circuitBreakerFailureThreshold = 5;
+	/**
+	 * Time (ms) an open circuit breaker short-circuits the requests before letting a probe request through
+	 * */
+	private long circuitBreakerOpenDuration = 60000;
+	/**
+	 * Circuit breakers of the polled endpoint families
+	 * */
+	private CircuitBreakers circuitBreakers;
+	/**
+	 * Directory of the persistent settings valuespace cache, empty to disable the cache
+	 * */
+	private String valuespaceCacheDirectory = "";
+	/**
+	 * Maximum size (MB) of the persistent settings valuespace cache
+	 * */
+	private int valuespaceCacheMaxSize = 50;
+	/**
+	 * Persistent settings valuespace cache, available when {@link #valuespaceCacheDirectory} is set
+	 * */
+	private ValuespaceDiskCache valuespaceDiskCache;
+	/**
+	 * Base time (ms) a settings valuespace which failed to load is not requested again, 0 to disable the negative cache
+	 * */
+	private long valuespaceNegativeCacheTTL = 300000;
+	/**
+	 * Whether {@link #retrieveMultipleStatistics()} delivers only the aggregated devices changed since their last delivery
+	 * */
+	private boolean deltaDelivery = false;
+	/**
+	 * Interval (ms) of the full deliveries of all aggregated devices when {@link #deltaDelivery} is enabled
+	 * */
+	private long fullDeliveryInterval = 1800000;
+	/**
+	 * Signatures of the properties and controls of the aggregated devices as last delivered, keyed by device ID
+	 * */
+	private final Map<String, DeliverySignature> deliveredDeviceSignatures = new ConcurrentHashMap<>();
+	/**
+	 * Timestamp (ms) of the last full delivery of all aggregated devices
+	 * */
+	private volatile long lastFullDeliveryTimestamp;
+	/**
+	 * Number of aggregated devices returned by the last {@link #retrieveMultipleStatistics()} call
+	 * */
+	private volatile int lastDeliveredDevices;
+	/**
+	 * Negative cache of the settings valuespaces which failed to load, available when {@link #valuespaceNegativeCacheTTL} is positive
+	 * */
+	private NegativeCache<String> valuespaceNegativeCache;
+	/**
+	 * Maximum estimated memory size (MB) of the loaded settings valuespaces, the least recently used ones are evicted above it
+	 * */
+	private int valuespaceMemoryCacheMaxSize = 32;
+	/**
+	 * Path of the local snapshot file of the collected data, restored on startup; empty to disable the snapshot
+	 * */
+	private String snapshotFile = "";
+	/**
+	 * Store of the local data snapshot, available when {@link #snapshotFile} is set
+	 * */
+	private AdapterStateSnapshotStore snapshotStore;
+	/**
+	 * Retrieval types whose data is still served from the restored snapshot, empty once all data is retrieved again
+	 * */
+	private final Set<RetrievalType> provisionalRetrievals = ConcurrentHashMap.newKeySet();
 	/**
 	 * Device adapter instantiation timestamp.
 	 */
@@ -120,9 +258,17 @@ public class JabraCloudCommunicator extends RestCommunicator implements Monitora
 	 */
 	private long lastMonitoringCycleDuration;
 	/**
-	 * Executes asynchronous tasks for data loader.
+	 * Duration (in milliseconds) of the last device settings collection sweep.
+	 */
+	private long lastDeviceSettingsCycleDuration;
+	/**
+	 * Schedules collection cycles of the data loader.
+	 */
+	private ScheduledExecutorService executorService;
+	/**
+	 * Executes asynchronous outbound requests: device settings, rooms and reboots.
 	 */
-	private ExecutorService executorService;
+	private RequestExecutor requestExecutor;
 	/**
 	 * Loads data from APIs for aggregated devices.
 	 */
@@ -135,6 +281,19 @@ public class JabraCloudCommunicator extends RestCommunicator implements Monitora
 	 * Stores local representations of aggregated devices.
 	 */
 	private List<AggregatedDevice> localAggregatedDevices;
+	/**
+	 * Aggregated devices with the fingerprint of the source data they were built from, keyed by device ID.
+	 * Devices with an unchanged fingerprint are reused by {@link #retrieveMultipleStatistics()} instead of being rebuilt.
+	 */
+	private final Map<String, FingerprintedDevice> aggregatedDevicesCache = new ConcurrentHashMap<>();
+	/**
+	 * Keyed index of the devices, rooms and aggregated devices, maintained as they are published
+	 */
+	private final FleetIndex fleetIndex = new FleetIndex();
+	/**
+	 * Number of aggregated devices rebuilt by the last {@link #retrieveMultipleStatistics()} call
+	 */
+	private volatile int lastRebuiltAggregatedDevices;
 	/**
 	 * Handles request status tracking and error detection.
 	 */
@@ -151,29 +310,44 @@ public class JabraCloudCommunicator extends RestCommunicator implements Monitora
 	/**
 	 * Feature model settings valuespace, containing all values and limits for supported models' settings
 	 * */
-	private Map<String, SettingsValuespace> featureModelSettingsValuespace;
+	private WeightedLruCache<String, SettingsValuespace> featureModelSettingsValuespace;
+	/**
+	 * Mapping of device IDs to their settings valuespace URLs, pruned when devices are removed
+	 * */
 	private Map<String, String> deviceIdFeatureModelSettingsValuespace;
+	/**
+	 * Single-flight loader of {@link #featureModelSettingsValuespace}, keyed by valuespace URL
+	 * */
+	private SingleFlight<String, SettingsValuespace> valuespaceLoader;
 	/**
 	 * Room groupName:room map
 	 * */
 	private Map<String, Room> availableRooms = new HashMap<>();
 	/**
-	 * List of overview devices collected from all rooms.
+	 * Latest rooms retrieved from {@link ApiConstant#ROOMS_ENDPOINT} based on current devices, published by the data loader.
 	 */
-	private List<DeviceOverview> devicesRooms = new ArrayList<>();
+	private volatile RoomsSnapshot roomsSnapshot = RoomsSnapshot.EMPTY;
 	/**
-	 * List of rooms retrieved from {@link ApiConstant#ROOMS_ENDPOINT} based on current devices.
-	 */
-	private List<Room> rooms;
-	/**
-	 * A cache of updated settings requests for devices.
+	 * Store of the pending settings changes of devices, keyed by device ID.
 	 * <p>
-	 * This cache stores the latest pending settings changes for devices.
+	 * This store keeps the latest pending settings changes for devices.
 	 * Entries are applied when triggered by {@link SettingProperty#APPLY}
-	 * and removed either after being applied or when cleared by {@link SettingProperty#CANCEL}.
+	 * and removed either after being applied, when cleared by {@link SettingProperty#CANCEL} or when expired.
 	 * </p>
 	 */
-	private Set<SettingsRequest> updatedSettingsCaches;
+	private final PendingSettingsStore pendingSettings = new PendingSettingsStore(UPDATED_SETTINGS_CACHE_EXPIRY_TIME);
+
+	/**
+	 * Property key tables of the rooms, by room ID, pruned whenever {@link #roomsSnapshot} is published
+	 * @since 1.2.0
+	 */
+	private final Map<String, PropertyKeyTable<RoomProperty>> roomPropertyKeys = new ConcurrentHashMap<>();
+
+	/**
+	 * Interned Settings group property keys, by setting name
+	 * @since 1.2.0
+	 */
+	private final Map<String, String> settingPropertyKeys = new ConcurrentHashMap<>();
 
 	/** Indicates whether all devices should be shown; defaults to false. */
 	private ClientTypeFilter clientTypeFilter;
@@ -188,7 +362,12 @@ public class JabraCloudCommunicator extends RestCommunicator implements Monitora
 	private Set<String> displayPropertyGroups;
     private final JabraCloudRequestInterceptor jabraCloudRequestInterceptor = new JabraCloudRequestInterceptor();
     private final JabraSettingsHttpMessageConverter jabraSettingsHttpMessageConterter = new JabraSettingsHttpMessageConverter();
-    private final JabraSettingsValuespaceHttpMessageConverter jabraSettingsValuespaceHttpMessageConverter = new JabraSettingsValuespaceHttpMessageConverter();
+    /**
+     * Intern pool shared by all valuespaces parsed from the CDN or read from {@link #valuespaceDiskCache}
+     * */
+    private final DescriptorInterner descriptorInterner = new DescriptorInterner();
+    private final JabraSettingsValuespaceHttpMessageConverter jabraSettingsValuespaceHttpMessageConverter = new JabraSettingsValuespaceHttpMessageConverter(descriptorInterner);
+    private final JabraItemsPageHttpMessageConverter jabraItemsPageHttpMessageConverter = new JabraItemsPageHttpMessageConverter();
 
 	public JabraCloudCommunicator() {
 		this.reentrantLock = new ReentrantLock();
@@ -200,12 +379,11 @@ public class JabraCloudCommunicator extends RestCommunicator implements Monitora
 		this.localAggregatedDevices = new CopyOnWriteArrayList<>();
 		this.requestStateHandler = new RequestStateHandler();
 		this.devices = new CopyOnWriteArrayList<>();
-		this.devicesRooms = new CopyOnWriteArrayList<>();
 		this.devicesSettings = new ConcurrentHashMap<>();
-		this.featureModelSettingsValuespace = new ConcurrentHashMap<>();
+		this.featureModelSettingsValuespace = new WeightedLruCache<>(this.valuespaceMemoryCacheMaxSize * 1024L * 1024L, SettingsValuespace::estimateSize);
+		this.valuespaceLoader = new SingleFlight<>(this.featureModelSettingsValuespace);
 		this.deviceIdFeatureModelSettingsValuespace = new ConcurrentHashMap<>();
-		this.rooms = new CopyOnWriteArrayList<>();
-		this.updatedSettingsCaches = new HashSet<>();
+		this.roomsSnapshot = RoomsSnapshot.EMPTY;
 
 		this.clientTypeFilter = ClientTypeFilter.MEETING_ROOM;
 		this.configManagement = false;
@@ -248,6 +426,294 @@ public class JabraCloudCommunicator extends RestCommunicator implements Monitora
 		this.apiPageSize = apiPageSize;
 	}
 
+	/**
+	 * Retrieves {@link #deviceSettingsConcurrency}
+	 *
+	 * @return value of {@link #deviceSettingsConcurrency}
+	 */
+	public int getDeviceSettingsConcurrency() {
+		return deviceSettingsConcurrency;
+	}
+
+	/**
+	 * Sets {@link #deviceSettingsConcurrency} value
+	 *
+	 * @param deviceSettingsConcurrency new value of {@link #deviceSettingsConcurrency}, values lower than 1 are reset to 1
+	 */
+	public void setDeviceSettingsConcurrency(int deviceSettingsConcurrency) {
+		this.deviceSettingsConcurrency = Math.max(1, deviceSettingsConcurrency);
+	}
+
+	/**
+	 * Retrieves {@link #virtualThreadsEnabled}
+	 *
+	 * @return value of {@link #virtualThreadsEnabled}
+	 */
+	public boolean isVirtualThreadsEnabled() {
+		return virtualThreadsEnabled;
+	}
+
+	/**
+	 * Sets {@link #virtualThreadsEnabled} value
+	 *
+	 * @param virtualThreadsEnabled new value of {@link #virtualThreadsEnabled}
+	 */
+	public void setVirtualThreadsEnabled(boolean virtualThreadsEnabled) {
+		this.virtualThreadsEnabled = virtualThreadsEnabled;
+	}
+
+	/**
+	 * Retrieves {@link #maxConcurrentRequests}
+	 *
+	 * @return value of {@link #maxConcurrentRequests}
+	 */
+	public int getMaxConcurrentRequests() {
+		return maxConcurrentRequests;
+	}
+
+	/**
+	 * Sets {@link #maxConcurrentRequests} value
+	 *
+	 * @param maxConcurrentRequests new value of {@link #maxConcurrentRequests}, values lower than 1 are reset to 1
+	 */
+	public void setMaxConcurrentRequests(int maxConcurrentRequests) {
+		this.maxConcurrentRequests = Math.max(1, maxConcurrentRequests);
+	}
+
+	/**
+	 * Retrieves {@link #adaptiveSettingsPolling}
+	 *
+	 * @return value of {@link #adaptiveSettingsPolling}
+	 */
+	public boolean isAdaptiveSettingsPolling() {
+		return adaptiveSettingsPolling;
+	}
+
+	/**
+	 * Sets {@link #adaptiveSettingsPolling} value
+	 *
+	 * @param adaptiveSettingsPolling new value of {@link #adaptiveSettingsPolling}
+	 */
+	public void setAdaptiveSettingsPolling(boolean adaptiveSettingsPolling) {
+		this.adaptiveSettingsPolling = adaptiveSettingsPolling;
+	}
+
+	/**
+	 * Retrieves {@link #settingsColdTierMultiplier}
+	 *
+	 * @return value of {@link #settingsColdTierMultiplier}
+	 */
+	public int getSettingsColdTierMultiplier() {
+		return settingsColdTierMultiplier;
+	}
+
+	/**
+	 * Sets {@link #settingsColdTierMultiplier} value
+	 *
+	 * @param settingsColdTierMultiplier new value of {@link #settingsColdTierMultiplier}, values lower than 1 are reset to 1
+	 */
+	public void setSettingsColdTierMultiplier(int settingsColdTierMultiplier) {
+		this.settingsColdTierMultiplier = Math.max(1, settingsColdTierMultiplier);
+	}
+
+	/**
+	 * Retrieves {@link #apiRequestsPerSecond}
+	 *
+	 * @return value of {@link #apiRequestsPerSecond}
+	 */
+	public double getApiRequestsPerSecond() {
+		return apiRequestsPerSecond;
+	}
+
+	/**
+	 * Sets {@link #apiRequestsPerSecond} value
+	 *
+	 * @param apiRequestsPerSecond new value of {@link #apiRequestsPerSecond}, values lower than 0 are reset to 0
+	 */
+	public void setApiRequestsPerSecond(double apiRequestsPerSecond) {
+		this.apiRequestsPerSecond = Math.max(0, apiRequestsPerSecond);
+	}
+
+	/**
+	 * Retrieves {@link #apiRequestBurst}
+	 *
+	 * @return value of {@link #apiRequestBurst}
+	 */
+	public int getApiRequestBurst() {
+		return apiRequestBurst;
+	}
+
+	/**
+	 * Sets {@link #apiRequestBurst} value
+	 *
+	 * @param apiRequestBurst new value of {@link #apiRequestBurst}, values lower than 1 are reset to 1
+	 */
+	public void setApiRequestBurst(int apiRequestBurst) {
+		this.apiRequestBurst = Math.max(1, apiRequestBurst);
+	}
+
+	/**
+	 * Retrieves {@link #circuitBreakerFailureThreshold}
+	 *
+	 * @return value of {@link #circuitBreakerFailureThreshold}
+	 */
+	public int getCircuitBreakerFailureThreshold() {
+		return circuitBreakerFailureThreshold;
+	}
+
+	/**
+	 * Sets {@link #circuitBreakerFailureThreshold} value
+	 *
+	 * @param circuitBreakerFailureThreshold new value of {@link #circuitBreakerFailureThreshold}, values lower than 1 are reset to 1
+	 */
+	public void setCircuitBreakerFailureThreshold(int circuitBreakerFailureThreshold) {
+		this.circuitBreakerFailureThreshold = Math.max(1, circuitBreakerFailureThreshold);
+	}
+
+	/**
+	 * Retrieves {@link #circuitBreakerOpenDuration}
+	 *
+	 * @return value of {@link #circuitBreakerOpenDuration}
+	 */
+	public long getCircuitBreakerOpenDuration() {
+		return circuitBreakerOpenDuration;
+	}
+
+	/**
+	 * Sets {@link #circuitBreakerOpenDuration} value
+	 *
+	 * @param circuitBreakerOpenDuration new value of {@link #circuitBreakerOpenDuration}, values lower than 0 are reset to 0
+	 */
+	public void setCircuitBreakerOpenDuration(long circuitBreakerOpenDuration) {
+		this.circuitBreakerOpenDuration = Math.max(0L, circuitBreakerOpenDuration);
+	}
+
+	/**
+	 * Retrieves {@link #valuespaceCacheDirectory}
+	 *
+	 * @return value of {@link #valuespaceCacheDirectory}
+	 */
+	public String getValuespaceCacheDirectory() {
+		return valuespaceCacheDirectory;
+	}
+
+	/**
+	 * Sets {@link #valuespaceCacheDirectory} value
+	 *
+	 * @param valuespaceCacheDirectory new value of {@link #valuespaceCacheDirectory}
+	 */
+	public void setValuespaceCacheDirectory(String valuespaceCacheDirectory) {
+		this.valuespaceCacheDirectory = valuespaceCacheDirectory == null ? "" : valuespaceCacheDirectory.trim();
+	}
+
+	/**
+	 * Retrieves {@link #valuespaceCacheMaxSize}
+	 *
+	 * @return value of {@link #valuespaceCacheMaxSize}
+	 */
+	public int getValuespaceCacheMaxSize() {
+		return valuespaceCacheMaxSize;
+	}
+
+	/**
+	 * Sets {@link #valuespaceCacheMaxSize} value
+	 *
+	 * @param valuespaceCacheMaxSize new value of {@link #valuespaceCacheMaxSize}, values lower than 1 are reset to 1
+	 */
+	public void setValuespaceCacheMaxSize(int valuespaceCacheMaxSize) {
+		this.valuespaceCacheMaxSize = Math.max(1, valuespaceCacheMaxSize);
+	}
+
+	/**
+	 * Retrieves {@link #valuespaceNegativeCacheTTL}
+	 *
+	 * @return value of {@link #valuespaceNegativeCacheTTL}
+	 */
+	public long getValuespaceNegativeCacheTTL() {
+		return valuespaceNegativeCacheTTL;
+	}
+
+	/**
+	 * Sets {@link #valuespaceNegativeCacheTTL} value
+	 *
+	 * @param valuespaceNegativeCacheTTL new value of {@link #valuespaceNegativeCacheTTL}, negative values are reset to 0
+	 */
+	public void setValuespaceNegativeCacheTTL(long valuespaceNegativeCacheTTL) {
+		this.valuespaceNegativeCacheTTL = Math.max(0L, valuespaceNegativeCacheTTL);
+	}
+
+	/**
+	 * Retrieves {@link #deltaDelivery}
+	 *
+	 * @return value of {@link #deltaDelivery}
+	 */
+	public boolean isDeltaDelivery() {
+		return deltaDelivery;
+	}
+
+	/**
+	 * Sets {@link #deltaDelivery} value
+	 *
+	 * @param deltaDelivery new value of {@link #deltaDelivery}
+	 */
+	public void setDeltaDelivery(boolean deltaDelivery) {
+		this.deltaDelivery = deltaDelivery;
+	}
+
+	/**
+	 * Retrieves {@link #fullDeliveryInterval}
+	 *
+	 * @return value of {@link #fullDeliveryInterval}
+	 */
+	public long getFullDeliveryInterval() {
+		return fullDeliveryInterval;
+	}
+
+	/**
+	 * Sets {@link #fullDeliveryInterval} value
+	 *
+	 * @param fullDeliveryInterval new value of {@link #fullDeliveryInterval}, negative values are reset to 0
+	 */
+	public void setFullDeliveryInterval(long fullDeliveryInterval) {
+		this.fullDeliveryInterval = Math.max(0L, fullDeliveryInterval);
+	}
+
+	/**
+	 * Retrieves {@link #valuespaceMemoryCacheMaxSize}
+	 *
+	 * @return value of {@link #valuespaceMemoryCacheMaxSize}
+	 */
+	public int getValuespaceMemoryCacheMaxSize() {
+		return valuespaceMemoryCacheMaxSize;
+	}
+
+	/**
+	 * Sets {@link #valuespaceMemoryCacheMaxSize} value
+	 *
+	 * @param valuespaceMemoryCacheMaxSize new value of {@link #valuespaceMemoryCacheMaxSize}, values lower than 1 are reset to 1
+	 */
+	public void setValuespaceMemoryCacheMaxSize(int valuespaceMemoryCacheMaxSize) {
+		this.valuespaceMemoryCacheMaxSize = Math.max(1, valuespaceMemoryCacheMaxSize);
+	}
+
+	/**
+	 * Retrieves {@link #snapshotFile}
+	 *
+	 * @return value of {@link #snapshotFile}
+	 */
+	public String getSnapshotFile() {
+		return snapshotFile;
+	}
+
+	/**
+	 * Sets {@link #snapshotFile} value
+	 *
+	 * @param snapshotFile new value of {@link #snapshotFile}
+	 */
+	public void setSnapshotFile(String snapshotFile) {
+		this.snapshotFile = snapshotFile == null ? "" : snapshotFile.trim();
+	}
+
 	/**
 	 * Retrieves {@link #clientTypeFilter}
 	 *
@@ -304,6 +770,7 @@ public class JabraCloudCommunicator extends RestCommunicator implements Monitora
 	 */
 	public void setConfigManagement(boolean configManagement) {
 		this.configManagement = configManagement;
+		this.aggregatedDevicesCache.clear();
 	}
 
 	/**
@@ -378,6 +845,15 @@ public class JabraCloudCommunicator extends RestCommunicator implements Monitora
 		this.lastMonitoringCycleDuration = lastMonitoringCycleDuration;
 	}
 
+	/**
+	 * Sets {@link #lastDeviceSettingsCycleDuration} value
+	 *
+	 * @param lastDeviceSettingsCycleDuration new value of {@link #lastDeviceSettingsCycleDuration}
+	 */
+	public void setLastDeviceSettingsCycleDuration(Long lastDeviceSettingsCycleDuration) {
+		this.lastDeviceSettingsCycleDuration = lastDeviceSettingsCycleDuration;
+	}
+
 	/**
 	 * Returns a comma-separated list of property group names that are configured to be displayed.
 	 *
@@ -394,6 +870,7 @@ public class JabraCloudCommunicator extends RestCommunicator implements Monitora
 	 */
 	public void setDisplayPropertyGroups(String displayPropertyGroups) {
 		this.displayPropertyGroups.clear();
+		this.aggregatedDevicesCache.clear();
 		if (StringUtils.isNullOrEmpty(displayPropertyGroups)) {
 			return;
 		}
@@ -408,6 +885,17 @@ public class JabraCloudCommunicator extends RestCommunicator implements Monitora
 		this.setTrustAllCertificates(true);
 		this.setAuthenticationScheme(AuthenticationScheme.None);
 		this.loadProperties();
+		this.rateLimiter = this.apiRequestsPerSecond > 0 ? new TokenBucketRateLimiter(this.apiRequestsPerSecond, this.apiRequestBurst) : null;
+		this.jabraCloudRequestInterceptor.setRateLimiter(this.rateLimiter);
+		this.circuitBreakers = new CircuitBreakers(this.circuitBreakerFailureThreshold, this.circuitBreakerOpenDuration);
+		this.jabraCloudRequestInterceptor.setCircuitBreakers(this.circuitBreakers);
+		this.valuespaceDiskCache = StringUtils.isNotNullOrEmpty(this.valuespaceCacheDirectory)
+				? new ValuespaceDiskCache(Paths.get(this.valuespaceCacheDirectory), this.valuespaceCacheMaxSize * 1024L * 1024L, this.descriptorInterner)
+				: null;
+		this.valuespaceNegativeCache = this.valuespaceNegativeCacheTTL > 0 ? new NegativeCache<>(this.valuespaceNegativeCacheTTL) : null;
+		this.featureModelSettingsValuespace.setMaxWeight(this.valuespaceMemoryCacheMaxSize * 1024L * 1024L);
+		this.snapshotStore = StringUtils.isNotNullOrEmpty(this.snapshotFile) ? new AdapterStateSnapshotStore(Paths.get(this.snapshotFile)) : null;
+		this.restoreSnapshot();
 		super.internalInit();
 	}
 
@@ -422,12 +910,15 @@ public class JabraCloudCommunicator extends RestCommunicator implements Monitora
 		this.reentrantLock.lock();
 		try {
 			this.verifyAdapterProperties();
-			this.setupData();
+			this.verifyRoomsState();
 			Map<String, String> statistics = new HashMap<>(this.getGeneralProperties());
 			List<AdvancedControllableProperty> controls = new ArrayList<>();
 			if (this.shouldDisplayGroup(Constant.ROOM_GROUP)) {
 				this.retrieveRoomProperties(statistics, controls);
 			}
+			if (this.shouldDisplayGroup(Constant.ADAPTER_METRICS_GROUP)) {
+				statistics.putAll(this.generateProperties(METRIC_PROPERTY_KEYS, this::mapToMetricProperty));
+			}
 
 			ExtendedStatistics extendedStatistics = new ExtendedStatistics();
 			extendedStatistics.setStatistics(statistics);
@@ -442,12 +933,27 @@ public class JabraCloudCommunicator extends RestCommunicator implements Monitora
 
 	@Override
 	public List<AggregatedDevice> retrieveMultipleStatistics() {
+		return this.retrieveAggregatedDevices(null);
+	}
+
+	@Override
+	public List<AggregatedDevice> retrieveMultipleStatistics(List<String> list) throws Exception {
+		return this.retrieveAggregatedDevices(new HashSet<>(list));
+	}
+
+	/**
+	 * Refreshes {@link #localAggregatedDevices} and selects the aggregated devices to deliver.
+	 *
+	 * @param requestedDeviceIds IDs of the requested devices, {@code null} to deliver all devices
+	 * @return aggregated devices to deliver
+	 */
+	private List<AggregatedDevice> retrieveAggregatedDevices(Set<String> requestedDeviceIds) {
 		if (System.currentTimeMillis() - lastControlActivationTimestamp <= 5000) {
 			if (logger.isDebugEnabled()) {
 				logger.debug("Device aggregator is in the cooldown state, emergency delivery update is skipped.");
 			}
 			updateDeviceSettingsMode();
-			return this.localAggregatedDevices;
+			return this.deliverAggregatedDevices(requestedDeviceIds);
 		}
 		this.setupDataLoader();
 		if (CollectionUtils.isEmpty(this.devices)) {
@@ -456,57 +962,53 @@ public class JabraCloudCommunicator extends RestCommunicator implements Monitora
 			}
 			return Collections.emptyList();
 		}
-		List<AggregatedDevice> aggregatedDevices = new ArrayList<>();
-		this.devices.forEach(device -> {
-			AggregatedDevice aggregatedDevice = new AggregatedDevice();
-			aggregatedDevice.setDeviceId(device.getId());
-			String deviceName = device.getName();
-			if (StringUtils.isNullOrEmpty(deviceName)) {
-				deviceName = device.getProductName();
-			}
-			aggregatedDevice.setDeviceName(deviceName);
-
-			aggregatedDevice.setDeviceModel(device.getProductName());
-			aggregatedDevice.setDeviceMake("Jabra");
-			aggregatedDevice.setType("AV Devices");
-			aggregatedDevice.setCategory(defineDeviceCategory(device.getProductName()));
-
-			String deviceConnectionStatus = device.getDeviceConnectionStatus();
-			aggregatedDevice.setDeviceOnline(StringUtils.isNotNullOrEmpty(deviceConnectionStatus) && !"Offline".equals(deviceConnectionStatus));
-			aggregatedDevice.setSerialNumber(device.getSerialNumber());
-			aggregatedDevice.setTimestamp(System.currentTimeMillis());
-
-			Map<String, String> properties = new HashMap<>(this.getAggregatedGeneralProperties(device));
-			List<AdvancedControllableProperty> controllableProperties = new ArrayList<>();
-			if (this.shouldDisplayGroup(Constant.AGGREGATED_COMPUTER_GROUP)) {
-				properties.putAll(this.getComputerProperties(device.getComputer()));
-			}
-			if (this.shouldDisplayGroup(Constant.AGGREGATED_CLIENT_GROUP)) {
-				properties.putAll(this.getClientProperties(device.getJabraClient()));
-			}
-			if (this.shouldDisplayGroup(Constant.AGGREGATED_SETTINGS_GROUP)) {
-				this.processSettingsProperties(device, properties, controllableProperties);
-			}
-
-			Optional.of(controllableProperties).filter(List::isEmpty).ifPresent(l -> l.add(Constant.DUMMY_CONTROLLER));
-
-			aggregatedDevice.setProperties(properties);
-			aggregatedDevice.setControllableProperties(controllableProperties);
-			aggregatedDevices.add(aggregatedDevice);
-		});
-		this.localAggregatedDevices = aggregatedDevices;
+		this.refreshAggregatedDevices();
 		this.versionProperties.setProperty(GeneralProperty.LAST_MONITORING_CYCLE_DURATION.getProperty(), String.valueOf(this.lastMonitoringCycleDuration));
+		this.versionProperties.setProperty(GeneralProperty.LAST_SETTINGS_CYCLE_DURATION.getProperty(), String.valueOf(this.lastDeviceSettingsCycleDuration));
 		this.versionProperties.setProperty(GeneralProperty.MONITORED_DEVICES_TOTAL.getProperty(), String.valueOf(this.localAggregatedDevices.size()));
+		this.versionProperties.setProperty(GeneralProperty.PROVISIONAL_DATA.getProperty(), String.valueOf(!this.provisionalRetrievals.isEmpty()));
 
 		updateDeviceSettingsMode();
-		return this.localAggregatedDevices;
+		return this.deliverAggregatedDevices(requestedDeviceIds);
 	}
 
-	@Override
-	public List<AggregatedDevice> retrieveMultipleStatistics(List<String> list) throws Exception {
-		return this.retrieveMultipleStatistics().stream()
-				.filter(aggregatedDevice -> list.contains(aggregatedDevice.getDeviceId()))
-				.collect(Collectors.toList());
+	/**
+	 * Refreshes {@link #localAggregatedDevices} from {@link #devices}: devices whose fingerprint changed are rebuilt,
+	 * the others are reused from {@link #aggregatedDevicesCache} with a refreshed timestamp.
+	 * Devices without an ID are rebuilt every time.
+	 */
+	void refreshAggregatedDevices() {
+		Set<String> deviceIds = new HashSet<>();
+		List<AggregatedDevice> aggregatedDevices = new ArrayList<>();
+		int rebuiltDevices = 0;
+		long timestamp = System.currentTimeMillis();
+		for (Device device : this.devices) {
+			boolean isDeviceInRoom = this.fleetIndex.isDeviceInRoom(device.getId());
+			if (device.getId() == null) {
+				aggregatedDevices.add(this.buildAggregatedDevice(device, isDeviceInRoom));
+				rebuiltDevices++;
+				continue;
+			}
+			deviceIds.add(device.getId());
+			DeviceFingerprint fingerprint = this.generateDeviceFingerprint(device, isDeviceInRoom);
+			FingerprintedDevice cached = this.aggregatedDevicesCache.get(device.getId());
+			if (cached == null || !cached.fingerprint().equals(fingerprint)) {
+				cached = new FingerprintedDevice(fingerprint, this.buildAggregatedDevice(device, isDeviceInRoom));
+				this.aggregatedDevicesCache.put(device.getId(), cached);
+				this.fleetIndex.putAggregatedDevice(cached.device());
+				if (!fingerprint.pendingChanges().isEmpty()) {
+					this.pendingSettings.markDirty(device.getId());
+				}
+				rebuiltDevices++;
+			} else {
+				cached.device().setTimestamp(timestamp);
+			}
+			aggregatedDevices.add(cached.device());
+		}
+		this.aggregatedDevicesCache.keySet().retainAll(deviceIds);
+		this.fleetIndex.retainAggregatedDevices(deviceIds);
+		this.lastRebuiltAggregatedDevices = rebuiltDevices;
+		this.localAggregatedDevices = aggregatedDevices;
 	}
 
 	@Override
@@ -539,34 +1041,23 @@ public class JabraCloudCommunicator extends RestCommunicator implements Monitora
 				String propertyApiField = denormalizeSettingPropertyName(propertyNameUngrouped);
 				String settingValue = controllableProperty.getValue().toString();
 
-				Optional<SettingsRequest> settingsCache = this.updatedSettingsCaches.stream()
-						.filter(c -> c.getDeviceId().equals(deviceId)).findFirst();
-
 				boolean requiresRestart = checkControlPropertyRequiresRestart(deviceId, propertyApiField);
-				if (settingsCache.isPresent()) {
-					settingsCache.get().getSettings().put(propertyNameUngrouped, new OptionDetail(settingValue, requiresRestart));
-				} else {
-					SettingsRequest settingsRequest = new SettingsRequest(
-							deviceId, System.currentTimeMillis() + UPDATED_SETTINGS_CACHE_EXPIRY_TIME,
-							Collections.singletonMap(propertyApiField, new OptionDetail(settingValue, requiresRestart))
-					);
-
-					this.updatedSettingsCaches.add(settingsRequest);
-				}
+				this.pendingSettings.put(deviceId, propertyApiField, new OptionDetail(settingValue, requiresRestart));
 				updateLocalControllableProperty(deviceId, propertyName, propertyValue);
 				return;
 			}
 			if (applySettings) {
 				String url = String.format(ApiConstant.DEVICE_SETTINGS_ENDPOINT, deviceId);
-				for (SettingsRequest settingsRequest : this.updatedSettingsCaches) {
-					if (settingsRequest.getDeviceId().equals(controllableProperty.getDeviceId())) {
-						this.applySettings(url, settingsRequest.getRequest());
-						this.updatedSettingsCaches.remove(settingsRequest);
-						break;
+				SettingsRequest settingsRequest = this.pendingSettings.get(deviceId);
+				if (settingsRequest != null) {
+					this.applySettings(url, settingsRequest.getRequest());
+					this.pendingSettings.remove(deviceId);
+					if (this.settingsPollingTiers != null) {
+						this.settingsPollingTiers.promote(deviceId);
 					}
 				}
 			} else {
-				this.updatedSettingsCaches.removeIf(cache -> cache.getDeviceId().equals(controllableProperty.getDeviceId()));
+				this.pendingSettings.remove(deviceId);
 			}
 			updateDeviceSettingsMode();
 		} finally {
@@ -611,15 +1102,19 @@ public class JabraCloudCommunicator extends RestCommunicator implements Monitora
 
 		this.displayPropertyGroups = null;
 		this.retrievalIntervals = null;
-		this.updatedSettingsCaches = null;
-		this.rooms = null;
+		this.pendingSettings.clear();
+		this.roomsSnapshot = RoomsSnapshot.EMPTY;
 		this.devicesSettings = null;
 		this.featureModelSettingsValuespace = null;
+		this.valuespaceLoader = null;
 		this.deviceIdFeatureModelSettingsValuespace = null;
-		this.devicesRooms = null;
 		this.devices = null;
 		this.requestStateHandler = null;
 		this.localAggregatedDevices = null;
+		this.aggregatedDevicesCache.clear();
+		this.fleetIndex.clear();
+		this.deliveredDeviceSignatures.clear();
+		this.lastFullDeliveryTimestamp = 0L;
 		this.localExtendedStatistics = null;
 		if (this.executorService != null) {
 			this.executorService.shutdownNow();
@@ -629,8 +1124,23 @@ public class JabraCloudCommunicator extends RestCommunicator implements Monitora
 			this.dataLoader.stop();
 			this.dataLoader = null;
 		}
+		if (this.requestExecutor != null) {
+			this.requestExecutor.shutdown();
+			this.requestExecutor = null;
+		}
+		this.settingsPollingTiers = null;
+		this.jabraCloudRequestInterceptor.setRateLimiter(null);
+		this.rateLimiter = null;
+		this.jabraCloudRequestInterceptor.setCircuitBreakers(null);
+		this.circuitBreakers = null;
+		this.valuespaceDiskCache = null;
+		this.valuespaceNegativeCache = null;
+		this.snapshotStore = null;
+		this.provisionalRetrievals.clear();
+		this.jabraCloudRequestInterceptor.getConditionalGetCache().clear();
 		this.adapterInitializationTimestamp = 0L;
 		this.lastMonitoringCycleDuration = 0L;
+		this.lastDeviceSettingsCycleDuration = 0L;
 		super.internalDestroy();
 	}
 
@@ -650,6 +1160,9 @@ public class JabraCloudCommunicator extends RestCommunicator implements Monitora
 		if (!converters.contains(jabraSettingsValuespaceHttpMessageConverter)) {
 			converters.add(1, jabraSettingsValuespaceHttpMessageConverter);
 		}
+		if (!converters.contains(jabraItemsPageHttpMessageConverter)) {
+			converters.add(2, jabraItemsPageHttpMessageConverter);
+		}
         return restTemplate;
     }
 
@@ -686,7 +1199,9 @@ public class JabraCloudCommunicator extends RestCommunicator implements Monitora
 		}
 		this.versionProperties.setProperty(GeneralProperty.ADAPTER_UPTIME.getProperty(), String.valueOf(this.adapterInitializationTimestamp));
 		this.versionProperties.setProperty(GeneralProperty.LAST_MONITORING_CYCLE_DURATION.getProperty(), String.valueOf(this.lastMonitoringCycleDuration));
+		this.versionProperties.setProperty(GeneralProperty.LAST_SETTINGS_CYCLE_DURATION.getProperty(), String.valueOf(this.lastDeviceSettingsCycleDuration));
 		this.versionProperties.setProperty(GeneralProperty.MONITORED_DEVICES_TOTAL.getProperty(), String.valueOf(this.localAggregatedDevices.size()));
+		this.versionProperties.setProperty(GeneralProperty.PROVISIONAL_DATA.getProperty(), String.valueOf(!this.provisionalRetrievals.isEmpty()));
 		try {
 			this.versionProperties.setProperty(GeneralProperty.MONITORED_CYCLE_INTERVAL.getProperty(), String.valueOf(this.getMonitoringRate()));
 		} catch (NoSuchMethodError error) {
@@ -707,83 +1222,65 @@ public class JabraCloudCommunicator extends RestCommunicator implements Monitora
 	}
 
 	/**
-	 * Initializes and sets up data for devices and rooms.
+	 * Verifies the state of the latest data published by the data loader.
 	 * <p>
-	 * This method performs the following steps:
-	 * <ul>
-	 *   <li>Clears existing {@code devicesRooms} and {@code rooms}.</li>
-	 *   <li>Fetches the list of devices from the API.</li>
-	 *   <li>For each device's group ID, retrieves the associated room and its devices.</li>
-	 *   <li>Populates the {@code rooms} and {@code devicesRooms} lists accordingly.</li>
-	 *   <li>Validates the API request state via {@code requestStateHandler}.</li>
-	 * </ul>
+	 * Rooms are retrieved in background by the data loader, so this method only checks the latest {@link #roomsSnapshot}:
+	 * a fatal error of the last rooms retrieval is rethrown, and the API request state is validated via {@code requestStateHandler}.
 	 * </p>
 	 *
-	 * @throws FailedLoginException if authentication fails during API calls
+	 * @throws Exception if the last rooms retrieval failed because of a login failure or an unreachable API
 	 */
-	private void setupData() throws FailedLoginException {
-		this.requestStateHandler.clearRequests();
-
+	private void verifyRoomsState() throws Exception {
 		if (CollectionUtils.isEmpty(this.devices) || CollectionUtils.isEmpty(this.displayPropertyGroups)) {
 			return;
 		}
-		//	Collect data for this.rooms and this.devicesRooms
-		IntervalSetting roomsInterval = this.getIntervalSettingByType(RetrievalType.ROOMS);
-		if (roomsInterval.isValid() && this.shouldDisplayGroup(Constant.ROOM_GROUP)) {
-			this.logger.info(String.format("Rooms retrieval is available now. %s", roomsInterval.getNextAvailabilityInfo()));
-			this.devicesRooms.clear();
-			this.rooms.clear();
-			Set<String> groupIDs = this.devices.stream().map(Device::getGroupId).filter(Objects::nonNull).collect(Collectors.toSet());
-			for (String groupId : groupIDs) {
-				String url = String.format(ApiConstant.ROOMS_ENDPOINT, groupId);
-				Room room = this.fetchData(url, Room.class);
-				if (room == null) {
-					continue;
-				}
-
-				this.rooms.add(room);
-				this.devicesRooms.addAll(Optional.ofNullable(room.getDevices()).orElse(new ArrayList<>()));
-			}
+		Exception roomsError = this.roomsSnapshot.error();
+		if (roomsError != null && this.shouldDisplayGroup(Constant.ROOM_GROUP)) {
+			throw roomsError;
 		}
-		//	Update data for this.devices
-		this.devices.forEach(device -> {
-			Room room = this.rooms.stream().filter(r -> r.getGroupId().equals(device.getGroupId())).findFirst().orElse(null);
-			if (room == null) {
-				return;
-			}
-
-			String connectionStatus = Optional.ofNullable(room.getDevices()).orElse(Collections.emptyList()).stream()
-					.filter(deviceRoom -> deviceRoom.getId().equals(device.getId())).findFirst()
-					.map(DeviceOverview::getDeviceConnectionStatus).orElse(null);
-			device.setDeviceConnectionStatus(connectionStatus);
-			device.setRoomName(room.getName());
-			device.setRoomType(room.getType());
-			device.setRoomLocation(room.getLocationName());
-		});
 		this.requestStateHandler.verifyRequestState();
 	}
 
 	/**
 	 * Sets up the data loader to collect and update data for aggregated devices.
 	 * <p>
-	 * This method initializes a single-thread executor and submits a {@link JabraCloudDataLoader}
-	 * task to it if not already initialized. It also updates the collection time and retrieves valid statistics.
-	 * Additionally, it updates the device connection status for each device based on {@code devicesRooms}.
+	 * This method initializes a scheduler with a thread per {@link RetrievalType} and starts a {@link JabraCloudDataLoader}
+	 * on it if not already initialized. Outbound requests of the data loader are executed by {@link #requestExecutor}.
+	 * It also wakes up the data loader for the current monitoring cycle and extends the statistics retrieval validity,
+	 * resuming the data loader if it was paused.
 	 * </p>
 	 */
 	private void setupDataLoader() {
 		if (this.executorService == null) {
-			this.executorService = Executors.newFixedThreadPool(2);
+			this.executorService = Executors.newScheduledThreadPool(RetrievalType.values().length);
+			this.settingsPollingTiers = this.adaptiveSettingsPolling ? new SettingsPollingTiers(this.settingsColdTierMultiplier) : null;
 			this.dataLoader = new JabraCloudDataLoader(
-					this,
-					this.devices, this.devicesSettings, this.featureModelSettingsValuespace, this.deviceIdFeatureModelSettingsValuespace,
-					this.clientTypeFilter, this.apiPageSize, this.settingsValuespaceURLTemplate
+					this, this.executorService, this.obtainRequestExecutor(),
+					this.devices, this.devicesSettings, this.valuespaceLoader, this.deviceIdFeatureModelSettingsValuespace,
+					this.clientTypeFilter, this.apiPageSize, this.settingsValuespaceURLTemplate, this.deviceSettingsConcurrency,
+					this.settingsPollingTiers, this.jabraCloudRequestInterceptor.getRetryAfterGate(), this.circuitBreakers,
+					this.valuespaceDiskCache, this.valuespaceNegativeCache
 			);
-			this.executorService.submit(this.dataLoader);
+			this.dataLoader.start();
 		}
 		this.dataLoader.setNextCollectionTime(System.currentTimeMillis());
 		this.dataLoader.updateValidRetrieveStatisticsTimestamp();
-		this.updatedSettingsCaches.removeIf(settingsCaches -> settingsCaches.getExpiryTime() <= System.currentTimeMillis());
+		this.pendingSettings.expire();
+	}
+
+	/**
+	 * Returns {@link #requestExecutor}, creating it on the first call according to
+	 * {@link #virtualThreadsEnabled} and {@link #maxConcurrentRequests} adapter properties.
+	 *
+	 * @return instance of {@link RequestExecutor}
+	 */
+	private synchronized RequestExecutor obtainRequestExecutor() {
+		if (this.requestExecutor == null) {
+			this.requestExecutor = new RequestExecutor(this.virtualThreadsEnabled, this.maxConcurrentRequests);
+			this.logger.info(String.format("Outbound requests are executed on %s threads, max concurrent requests: %s.",
+					this.requestExecutor.isVirtualThreads() ? "virtual" : "platform", this.maxConcurrentRequests));
+		}
+		return this.requestExecutor;
 	}
 
 	/**
@@ -794,12 +1291,156 @@ public class JabraCloudCommunicator extends RestCommunicator implements Monitora
 	 */
 	private Map<String, String> getGeneralProperties() {
 		return this.generateProperties(
-				GeneralProperty.values(),
-				null,
+				GENERAL_PROPERTY_KEYS,
 				property -> Util.mapToGeneralProperty(property, this.versionProperties)
 		);
 	}
 
+	/**
+	 * Maps an adapter metric property to its current value.
+	 *
+	 * @param property the {@link MetricProperty} to map
+	 * @return the string representation of the metric, or {@code null} if the metric is not available
+	 */
+	private String mapToMetricProperty(MetricProperty property) {
+		TokenBucketRateLimiter limiter = this.rateLimiter;
+		RetryAfterGate retryAfterGate = this.jabraCloudRequestInterceptor.getRetryAfterGate();
+		CircuitBreakers breakers = this.circuitBreakers;
+		SingleFlight<String, SettingsValuespace> valuespaces = this.valuespaceLoader;
+		ValuespaceDiskCache diskCache = this.valuespaceDiskCache;
+		NegativeCache<String> negativeCache = this.valuespaceNegativeCache;
+		WeightedLruCache<String, SettingsValuespace> valuespaceCache = this.featureModelSettingsValuespace;
+		Map<String, String> valuespaceMappings = this.deviceIdFeatureModelSettingsValuespace;
+		ConditionalGetCache conditionalGetCache = this.jabraCloudRequestInterceptor.getConditionalGetCache();
+		SettingsPollingTiers pollingTiers = this.settingsPollingTiers;
+		switch (property) {
+			case RATE_LIMIT:
+				return limiter != null ? String.valueOf(limiter.getPermitsPerSecond()) : null;
+			case RATE_LIMITER_REQUESTS:
+				return limiter != null ? String.valueOf(limiter.getAcquiredPermits()) : null;
+			case RATE_LIMITER_THROTTLED_REQUESTS:
+				return limiter != null ? String.valueOf(limiter.getThrottledPermits()) : null;
+			case RATE_LIMITER_TOTAL_WAIT:
+				return limiter != null ? String.valueOf(limiter.getTotalWaitMs()) : null;
+			case RATE_LIMITER_AVERAGE_WAIT:
+				return limiter != null ? String.valueOf(limiter.getAverageWaitMs()) : null;
+			case RATE_LIMITER_MAX_WAIT:
+				return limiter != null ? String.valueOf(limiter.getMaxWaitMs()) : null;
+			case RETRY_AFTER_GATE_ACTIVATIONS:
+				return String.valueOf(retryAfterGate.getActivations());
+			case RETRY_AFTER_GATE_PAUSED_TIME:
+				return String.valueOf(retryAfterGate.getPausedTimeMs());
+			case RETRY_AFTER_GATE_DEFERRALS:
+				return String.valueOf(retryAfterGate.getDeferrals());
+			case CIRCUIT_BREAKER_DEVICES:
+				return breakers != null ? breakers.get(EndpointFamily.DEVICES).getState().name() : null;
+			case CIRCUIT_BREAKER_DEVICE_SETTINGS:
+				return breakers != null ? breakers.get(EndpointFamily.DEVICE_SETTINGS).getState().name() : null;
+			case CIRCUIT_BREAKER_ROOMS:
+				return breakers != null ? breakers.get(EndpointFamily.ROOMS).getState().name() : null;
+			case CIRCUIT_BREAKER_VALUESPACE:
+				return breakers != null ? breakers.get(EndpointFamily.VALUESPACE).getState().name() : null;
+			case CIRCUIT_BREAKER_SHORT_CIRCUITED_REQUESTS:
+				return breakers != null ? String.valueOf(breakers.getShortCircuitedRequests()) : null;
+			case VALUESPACE_CACHE_HITS:
+				return valuespaces != null ? String.valueOf(valuespaces.getHits()) : null;
+			case VALUESPACE_CACHE_MISSES:
+				return valuespaces != null ? String.valueOf(valuespaces.getMisses()) : null;
+			case VALUESPACE_COALESCED_REQUESTS:
+				return valuespaces != null ? String.valueOf(valuespaces.getCoalesced()) : null;
+			case VALUESPACE_DISK_CACHE_HITS:
+				return diskCache != null ? String.valueOf(diskCache.getHits()) : null;
+			case VALUESPACE_NEGATIVE_CACHE_ENTRIES:
+				return negativeCache != null ? String.valueOf(negativeCache.getBlockedCount()) : null;
+			case VALUESPACE_NEGATIVE_CACHE_SKIPPED_LOOKUPS:
+				return negativeCache != null ? String.valueOf(negativeCache.getSkippedLookups()) : null;
+			case VALUESPACE_CACHE_ENTRIES:
+				return valuespaceCache != null ? String.valueOf(valuespaceCache.size()) : null;
+			case VALUESPACE_CACHE_ESTIMATED_SIZE:
+				return valuespaceCache != null ? String.valueOf(valuespaceCache.getWeight() / 1024) : null;
+			case VALUESPACE_CACHE_EVICTIONS:
+				return valuespaceCache != null ? String.valueOf(valuespaceCache.getEvictions()) : null;
+			case VALUESPACE_INTERNED_INSTANCES:
+				return String.valueOf(this.descriptorInterner.size());
+			case VALUESPACE_INTERN_HITS:
+				return String.valueOf(this.descriptorInterner.getHits());
+			case CONDITIONAL_REQUESTS:
+				return String.valueOf(conditionalGetCache.getConditionalRequests());
+			case NOT_MODIFIED_RESPONSES:
+				return String.valueOf(conditionalGetCache.getNotModifiedResponses());
+			case NOT_MODIFIED_RATE:
+				return String.valueOf(conditionalGetCache.getNotModifiedRate());
+			case NOT_MODIFIED_BYTES_SAVED:
+				return String.valueOf(conditionalGetCache.getBytesSaved() / 1024);
+			case DEVICE_VALUESPACE_MAPPINGS:
+				return valuespaceMappings != null ? String.valueOf(valuespaceMappings.size()) : null;
+			case SETTINGS_POLLING_COLD_DEVICES:
+				return pollingTiers != null ? String.valueOf(pollingTiers.getColdDevicesCount()) : null;
+			case AGGREGATED_DEVICES_REBUILT:
+				return String.valueOf(this.lastRebuiltAggregatedDevices);
+			case DELIVERED_AGGREGATED_DEVICES:
+				return String.valueOf(this.lastDeliveredDevices);
+			case DEVICES_RETRIEVAL_LAST_PUBLISHED:
+				return this.mapToRetrievalMetric(RetrievalType.DEVICES, JabraCloudCommunicator::getLastPublishedTime);
+			case DEVICES_RETRIEVAL_LAST_DURATION:
+				return this.mapToRetrievalMetric(RetrievalType.DEVICES, JabraCloudCommunicator::getLastDuration);
+			case DEVICES_RETRIEVAL_IN_FLIGHT:
+				return this.mapToRetrievalMetric(RetrievalType.DEVICES, RetrievalPipeline::isInFlight);
+			case DEVICE_SETTINGS_RETRIEVAL_LAST_PUBLISHED:
+				return this.mapToRetrievalMetric(RetrievalType.DEVICE_SETTINGS, JabraCloudCommunicator::getLastPublishedTime);
+			case DEVICE_SETTINGS_RETRIEVAL_LAST_DURATION:
+				return this.mapToRetrievalMetric(RetrievalType.DEVICE_SETTINGS, JabraCloudCommunicator::getLastDuration);
+			case DEVICE_SETTINGS_RETRIEVAL_IN_FLIGHT:
+				return this.mapToRetrievalMetric(RetrievalType.DEVICE_SETTINGS, RetrievalPipeline::isInFlight);
+			case ROOMS_RETRIEVAL_LAST_PUBLISHED:
+				return this.mapToRetrievalMetric(RetrievalType.ROOMS, JabraCloudCommunicator::getLastPublishedTime);
+			case ROOMS_RETRIEVAL_LAST_DURATION:
+				return this.mapToRetrievalMetric(RetrievalType.ROOMS, JabraCloudCommunicator::getLastDuration);
+			case ROOMS_RETRIEVAL_IN_FLIGHT:
+				return this.mapToRetrievalMetric(RetrievalType.ROOMS, RetrievalPipeline::isInFlight);
+			default:
+				if (this.logger.isWarnEnabled()) {
+					this.logger.warn(String.format(Constant.UNSUPPORTED_MAP_PROPERTY_WARNING, "mapToMetricProperty", property));
+				}
+				return null;
+		}
+	}
+
+	/**
+	 * Maps a metric of the {@link RetrievalPipeline} of the given type to its string representation.
+	 *
+	 * @param type retrieval type of the pipeline
+	 * @param metric function retrieving the metric of the pipeline, returning {@code null} if it is not available
+	 * @return the string representation of the metric, or {@code null} if the metric or the pipeline is not available
+	 */
+	private String mapToRetrievalMetric(RetrievalType type, Function<RetrievalPipeline, Object> metric) {
+		JabraCloudDataLoader loader = this.dataLoader;
+		RetrievalPipeline pipeline = loader != null ? loader.getPipeline(type) : null;
+		Object value = pipeline != null ? metric.apply(pipeline) : null;
+		return value != null ? String.valueOf(value) : null;
+	}
+
+	/**
+	 * Retrieves the time the last results of the pipeline were published, with a precision of seconds.
+	 *
+	 * @param pipeline the {@link RetrievalPipeline}
+	 * @return ISO-8601 UTC time, or {@code null} if the pipeline did not publish any results yet
+	 */
+	private static Instant getLastPublishedTime(RetrievalPipeline pipeline) {
+		long timestamp = pipeline.getLastPublishedTimestamp();
+		return timestamp > 0 ? Instant.ofEpochMilli(timestamp).truncatedTo(ChronoUnit.SECONDS) : null;
+	}
+
+	/**
+	 * Retrieves the duration of the last execution of the pipeline.
+	 *
+	 * @param pipeline the {@link RetrievalPipeline}
+	 * @return duration in milliseconds, or {@code null} if the pipeline did not publish any results yet
+	 */
+	private static Long getLastDuration(RetrievalPipeline pipeline) {
+		return pipeline.getLastPublishedTimestamp() > 0 ? pipeline.getLastDuration() : null;
+	}
+
 	/**
 	 * Update cache stored controllable property value, so it's consistent throughout the multiple {@link #controlProperty) calls
 	 * @param deviceId id of the device to change controllable property value for
@@ -807,7 +1448,7 @@ public class JabraCloudCommunicator extends RestCommunicator implements Monitora
 	 * @param propertyValue new property value to set
 	 * */
 	private void updateLocalControllableProperty(String deviceId, String propertyName, Object propertyValue) {
-		this.localAggregatedDevices.stream().filter(device -> device.getDeviceId().equals(deviceId)).findAny().ifPresent(device -> {
+		Optional.ofNullable(this.fleetIndex.getAggregatedDevice(deviceId)).ifPresent(device -> {
 			List<AdvancedControllableProperty> controls = device.getControllableProperties();
 			controls.stream().filter(controllableProperty -> propertyName.equals(controllableProperty.getName())).findAny().ifPresent(controllableProperty -> {
 				controllableProperty.setValue(propertyValue);
@@ -821,18 +1462,19 @@ public class JabraCloudCommunicator extends RestCommunicator implements Monitora
 	 * <p>If no rooms are available, logs a warning and returns an empty map.</p>
 	 */
 	private void retrieveRoomProperties(Map<String, String> statistics, List<AdvancedControllableProperty> controls) {
-		if (CollectionUtils.isEmpty(this.rooms)) {
+		List<Room> rooms = this.roomsSnapshot.rooms();
+		if (CollectionUtils.isEmpty(rooms)) {
 			if (this.logger.isWarnEnabled()) {
 				this.logger.warn(String.format(Constant.LIST_EMPTY_WARNING, Constant.ROOM_GROUP));
 			}
 			return;
 		}
-		for (int i = 0; i < this.rooms.size(); i++) {
-			Room room = this.rooms.get(i);
-			String groupName = "Room_" + normalizeJabraRoomName(room.getName());
-			statistics.putAll(this.generateProperties(
-					RoomProperty.values(), groupName, property -> Util.mapToRoomProperty(property, room)
-			));
+		for (int i = 0; i < rooms.size(); i++) {
+			Room room = rooms.get(i);
+			PropertyKeyTable<RoomProperty> roomKeys = this.roomPropertyKeys.computeIfAbsent(room.getId(),
+					id -> PropertyKeyTable.of(RoomProperty.class, "Room_" + normalizeJabraRoomName(room.getName())));
+			String groupName = roomKeys.getGroupName();
+			statistics.putAll(this.generateProperties(roomKeys, property -> Util.mapToRoomProperty(property, room)));
 			availableRooms.put(groupName, room);
 
 			if (!Constant.STATUS_DISCONNECTED.equalsIgnoreCase(room.getStatus())) {
@@ -886,18 +1528,17 @@ public class JabraCloudCommunicator extends RestCommunicator implements Monitora
 	 * @param device the {@link Device} to extract properties from
 	 * @return a map of property names and their corresponding values, or an empty map if device is null
 	 */
-	private Map<String, String> getAggregatedGeneralProperties(Device device) {
+	private Map<String, String> getAggregatedGeneralProperties(Device device, boolean isDeviceInRoom) {
 		if (device == null) {
 			if (this.logger.isWarnEnabled()) {
 				this.logger.warn(String.format(Constant.OBJECT_EMPTY_WARNING, "device"));
 			}
 			return Collections.emptyMap();
 		}
-		boolean isDeviceInRoom = this.devicesRooms.stream().anyMatch(deviceOverview -> deviceOverview.getId().equals(device.getId()));
 		Map<String, String> properties = new HashMap<>();
-		properties.putAll(this.generateProperties(AggregatedGeneralProperty.values(), null, property -> Util.mapToAggregatedGeneralProperty(property, device)));
+		properties.putAll(this.generateProperties(AGGREGATED_GENERAL_PROPERTY_KEYS, property -> Util.mapToAggregatedGeneralProperty(property, device)));
 		if (isDeviceInRoom) {
-			properties.putAll(this.generateProperties(OptionalGeneralProperty.values(), null, property -> Util.mapToOptionalGeneralProperty(property, device)));
+			properties.putAll(this.generateProperties(OPTIONAL_GENERAL_PROPERTY_KEYS, property -> Util.mapToOptionalGeneralProperty(property, device)));
 		}
 
 		return properties;
@@ -917,8 +1558,7 @@ public class JabraCloudCommunicator extends RestCommunicator implements Monitora
 			return Collections.emptyMap();
 		}
 		return this.generateProperties(
-				ComputerProperty.values(),
-				Constant.AGGREGATED_COMPUTER_GROUP,
+				COMPUTER_PROPERTY_KEYS,
 				property -> Util.mapToComputerProperty(property, computer)
 		);
 	}
@@ -937,8 +1577,7 @@ public class JabraCloudCommunicator extends RestCommunicator implements Monitora
 			return Collections.emptyMap();
 		}
 		return this.generateProperties(
-				ClientProperty.values(),
-				Constant.AGGREGATED_CLIENT_GROUP,
+				CLIENT_PROPERTY_KEYS,
 				property -> Util.mapToClientProperty(property, client)
 		);
 	}
@@ -1033,36 +1672,40 @@ public class JabraCloudCommunicator extends RestCommunicator implements Monitora
 
 	/**
 	 * Check if the device has any not applied settings and show Apply/Cancel buttons
-	 * This method operates with cached version of aggregated devices - {@link #localAggregatedDevices}
+	 * This method operates with cached version of aggregated devices - {@link #localAggregatedDevices},
+	 * and only visits the devices whose pending settings changed, as tracked by {@link #pendingSettings}
 	 *
 	 * @since 1.1.1
 	 * */
 	private void updateDeviceSettingsMode(){
-		for (AggregatedDevice device : this.localAggregatedDevices) {
-			String deviceId = device.getDeviceId();
-			Map<String, OptionDetail> pendingChanges = this.getUpdatedSettingsCacheByDeviceId(deviceId);
+		for (String deviceId : this.pendingSettings.drainDirtyDevices()) {
+			AggregatedDevice device = this.fleetIndex.getAggregatedDevice(deviceId);
+			if (device == null) {
+				// The device is not indexed yet, keep it dirty until its aggregated device is available
+				this.pendingSettings.markDirty(deviceId);
+				continue;
+			}
+			Map<String, OptionDetail> pendingChanges = this.pendingSettings.getSettings(deviceId);
 			Map<String, String> properties = device.getProperties();
 			List<AdvancedControllableProperty> controls = device.getControllableProperties();
 			try {
-				String applyKey = String.format(Constant.PROPERTY_FORMAT, Constant.AGGREGATED_SETTINGS_GROUP, SettingProperty.APPLY.getName());
-				String cancelKey = String.format(Constant.PROPERTY_FORMAT, Constant.AGGREGATED_SETTINGS_GROUP, SettingProperty.CANCEL.getName());
 				if (pendingChanges.isEmpty()) {
 					if (logger.isDebugEnabled()) {
 						logger.debug(String.format("No pending changes detected, skipping device settings mode update for device %s.", deviceId));
 					}
-					properties.remove(applyKey);
-					properties.remove(cancelKey);
-					controls.removeIf(controllableProperty -> applyKey.equalsIgnoreCase(controllableProperty.getName()) || cancelKey.equalsIgnoreCase(controllableProperty.getName()));
+					properties.remove(APPLY_PROPERTY_KEY);
+					properties.remove(CANCEL_PROPERTY_KEY);
+					controls.removeIf(controllableProperty -> APPLY_PROPERTY_KEY.equalsIgnoreCase(controllableProperty.getName()) || CANCEL_PROPERTY_KEY.equalsIgnoreCase(controllableProperty.getName()));
 					continue;
 				}
 				boolean requiresRestart = pendingChanges.values().stream().anyMatch(OptionDetail::requiresRestart);
 
-				properties.put(applyKey, "N/A");
+				properties.put(APPLY_PROPERTY_KEY, "N/A");
 				// 60s gracePeriod because new controls cant be applied unless 1 minute has passed.
-				addDeviceControl(controls, createButton(applyKey, "Apply", "Applying", requiresRestart ? SETTING_UPDATE_TIME : 60000L));
+				addDeviceControl(controls, createButton(APPLY_PROPERTY_KEY, "Apply", "Applying", requiresRestart ? SETTING_UPDATE_TIME : 60000L));
 
-				properties.put(cancelKey, "N/A");
-				addDeviceControl(controls, createButton(cancelKey, "Cancel", "Canceling", 0L));
+				properties.put(CANCEL_PROPERTY_KEY, "N/A");
+				addDeviceControl(controls, createButton(CANCEL_PROPERTY_KEY, "Cancel", "Canceling", 0L));
 			} finally {
 				device.setControllableProperties(controls);
 				device.setTimestamp(System.currentTimeMillis());
@@ -1090,29 +1733,25 @@ public class JabraCloudCommunicator extends RestCommunicator implements Monitora
 	/**
 	 * Generates a map of property names and their corresponding values.
 	 * <p>
-	 * Each property name can be optionally prefixed with a group name using a predefined format.
+	 * Property names are taken from the precomputed {@link PropertyKeyTable}, so no key is built per call.
 	 * The values are derived using the provided mapping function, with {@link Constant#NOT_AVAILABLE} as a fallback for null results.
 	 * </p>
 	 *
 	 * @param <T> the enum type that extends {@link BaseProperty}
-	 * @param properties the array of enum constants to be processed; if null, an empty map is returned
-	 * @param groupName optional group name used to prefix each property's name; can be null
+	 * @param keyTable the key table of the properties to be processed; if null, an empty map is returned
 	 * @param mapper a function that maps each property to its corresponding string value;
 	 * if null or if the result is null, {@link Constant#NOT_AVAILABLE} is used as the value
 	 * @return a map where keys are (optionally grouped) property names and values are mapped strings or {@link Constant#NOT_AVAILABLE}
 	 */
-	private <T extends Enum<T> & BaseProperty> Map<String, String> generateProperties(T[] properties, String groupName, Function<T, String> mapper) {
-		if (properties == null || mapper == null) {
+	private <T extends Enum<T> & BaseProperty> Map<String, String> generateProperties(PropertyKeyTable<T> keyTable, Function<T, String> mapper) {
+		if (keyTable == null || mapper == null) {
 			return Collections.emptyMap();
 		}
-		return Arrays.stream(properties).collect(Collectors.toMap(
-				property -> Objects.isNull(groupName) ? property.getName() : String.format(Constant.PROPERTY_FORMAT, groupName, property.getName()),
-				property -> Optional.ofNullable(mapper.apply(property)).orElse(Constant.NOT_AVAILABLE)
-		));
+		return keyTable.generate(mapper);
 	}
 
 	/**
-	 * Generate Settings properties entry based on {@link Setting}
+	 * Generate Settings properties entry based on {@link Setting}, with the property name taken from {@link #settingPropertyKeys}
 	 *
 	 * @param setting instance to create property name for
 	 * @return {@link Map.Entry} of a given setting
@@ -1120,7 +1759,10 @@ public class JabraCloudCommunicator extends RestCommunicator implements Monitora
 	 * @since 1.1.1
 	 * */
 	private Map.Entry<String, String> generateSettingsEntry(Setting setting) {
-		String propertyName = String.format(Constant.PROPERTY_FORMAT, Constant.AGGREGATED_SETTINGS_GROUP, normalizeSettingPropertyName(setting.getName()));
+		String name = setting.getName();
+		String propertyName = name == null ? NULL_SETTING_PROPERTY_KEY
+				: this.settingPropertyKeys.computeIfAbsent(name,
+						n -> String.format(Constant.PROPERTY_FORMAT, Constant.AGGREGATED_SETTINGS_GROUP, normalizeSettingPropertyName(n)).intern());
 		return Map.entry(propertyName, setting.getValue().toString());
 	}
 
@@ -1165,19 +1807,6 @@ public class JabraCloudCommunicator extends RestCommunicator implements Monitora
 		controls.add(control);
 	}
 
-	/**
-	 * Retrieves the updated settings cache for a specific device.
-	 *
-	 * @param deviceId the unique identifier of the device
-	 * @return a map of setting API field names to their {@link OptionDetail} values,
-	 * or an empty map if the device has no cached settings
-	 */
-	private Map<String, OptionDetail> getUpdatedSettingsCacheByDeviceId(String deviceId) {
-		return this.updatedSettingsCaches.stream()
-				.filter(settingsCache -> settingsCache.getDeviceId().equals(deviceId)).findFirst()
-				.map(SettingsRequest::getSettings).orElse(Collections.emptyMap());
-	}
-
 	/**
 	 * Returns the IntervalSetting for the given type, creating one if absent.
 	 * Guarantees a non-null entry so callers don't need null checks.
@@ -1194,17 +1823,158 @@ public class JabraCloudCommunicator extends RestCommunicator implements Monitora
 	private void rebootRoom(String roomId) throws Exception {
 		String requestUrl = String.format(ApiConstant.ROOMS_REBOOT_ENDPOINT, roomId);
 		try {
-			CompletableFuture.runAsync(() -> {
+			this.obtainRequestExecutor().runAsync(() -> {
 				try {
 					doPost(requestUrl, JsonNode.class);
 				} catch (Exception e) {
 					this.logger.error("Unable to process room reboot request.", e);
 				}
-			}, executorService);
+			});
 		} catch (RejectedExecutionException e) {
-			throw new RuntimeException(String.format("Unable to request reboot operation for room with ID %s: another reboot operation is in progress. Please try again later.", roomId));
+			throw new RuntimeException(String.format("Unable to request reboot operation for room with ID %s: the request executor is unavailable or saturated. Please try again later.", roomId));
+		}
+	}
+
+	/**
+	 * Retrieves {@link #fleetIndex}
+	 *
+	 * @return value of {@link #fleetIndex}
+	 */
+	FleetIndex getFleetIndex() {
+		return fleetIndex;
+	}
+
+	/**
+	 * Retrieves {@link #devices}
+	 *
+	 * @return value of {@link #devices}
+	 */
+	List<Device> getDevices() {
+		return devices;
+	}
+
+	/**
+	 * Retrieves {@link #devicesSettings}
+	 *
+	 * @return value of {@link #devicesSettings}
+	 */
+	Map<String, List<Setting>> getDevicesSettings() {
+		return devicesSettings;
+	}
+
+	/**
+	 * Retrieves {@link #pendingSettings}
+	 *
+	 * @return value of {@link #pendingSettings}
+	 */
+	PendingSettingsStore getPendingSettings() {
+		return pendingSettings;
+	}
+
+	/**
+	 * Retrieves {@link #deviceIdFeatureModelSettingsValuespace}
+	 *
+	 * @return value of {@link #deviceIdFeatureModelSettingsValuespace}
+	 */
+	Map<String, String> getDeviceIdFeatureModelSettingsValuespace() {
+		return deviceIdFeatureModelSettingsValuespace;
+	}
+
+	/**
+	 * Retrieves {@link #featureModelSettingsValuespace}
+	 *
+	 * @return value of {@link #featureModelSettingsValuespace}
+	 */
+	WeightedLruCache<String, SettingsValuespace> getFeatureModelSettingsValuespace() {
+		return featureModelSettingsValuespace;
+	}
+
+	/**
+	 * Retrieves {@link #roomsSnapshot}
+	 *
+	 * @return value of {@link #roomsSnapshot}
+	 */
+	RoomsSnapshot getRoomsSnapshot() {
+		return roomsSnapshot;
+	}
+
+	/**
+	 * Sets {@link #roomsSnapshot} value, indexing its rooms in {@link #fleetIndex}
+	 * and dropping the {@link #roomPropertyKeys} of the rooms that were removed or renamed
+	 *
+	 * @param roomsSnapshot new value of {@link #roomsSnapshot}
+	 */
+	void setRoomsSnapshot(RoomsSnapshot roomsSnapshot) {
+		this.fleetIndex.indexRooms(roomsSnapshot);
+		Map<String, String> previousNames = new HashMap<>();
+		for (Room room : this.roomsSnapshot.rooms()) {
+			previousNames.put(room.getId(), room.getName());
+		}
+		Set<String> roomIds = new HashSet<>();
+		for (Room room : roomsSnapshot.rooms()) {
+			roomIds.add(room.getId());
+			if (previousNames.containsKey(room.getId()) && !Objects.equals(previousNames.get(room.getId()), room.getName())) {
+				this.roomPropertyKeys.remove(room.getId());
+			}
+		}
+		this.roomPropertyKeys.keySet().retainAll(roomIds);
+		this.roomsSnapshot = roomsSnapshot;
+	}
+
+	/**
+	 * Marks the data of the retrieval type as fresh, so it is no longer reported as provisional snapshot data.
+	 *
+	 * @param type retrieval type whose data was retrieved
+	 */
+	void markRetrievalFresh(RetrievalType type) {
+		if (this.provisionalRetrievals.remove(type) && this.provisionalRetrievals.isEmpty()) {
+			this.logger.info("Data restored from the adapter snapshot is fully replaced by retrieved data.");
+		}
+	}
+
+	/**
+	 * Writes the collected devices, settings and rooms to {@link #snapshotStore}, if enabled.
+	 */
+	void persistSnapshot() {
+		AdapterStateSnapshotStore store = this.snapshotStore;
+		List<Device> currentDevices = this.devices;
+		Map<String, List<Setting>> currentSettings = this.devicesSettings;
+		Map<String, String> currentValuespaces = this.deviceIdFeatureModelSettingsValuespace;
+		if (store == null || currentDevices == null || currentSettings == null || currentValuespaces == null) {
+			return;
+		}
+		RoomsSnapshot rooms = this.roomsSnapshot;
+		store.write(new AdapterStateSnapshot(new ArrayList<>(currentDevices), new HashMap<>(currentSettings), new HashMap<>(currentValuespaces),
+				rooms.rooms(), rooms.devicesRooms(), System.currentTimeMillis()));
+	}
+
+	/**
+	 * Restores the devices, settings and rooms from {@link #snapshotStore}, if enabled and available.
+	 * The restored data is served as provisional until each retrieval type replaces it with retrieved data.
+	 * Valuespaces of the restored devices are preloaded from {@link #valuespaceDiskCache}, so their settings are displayed as well.
+	 */
+	private void restoreSnapshot() {
+		AdapterStateSnapshot snapshot = this.snapshotStore != null ? this.snapshotStore.read() : null;
+		if (snapshot == null || CollectionUtils.isEmpty(snapshot.devices())) {
+			return;
+		}
+		this.devices.addAll(snapshot.devices());
+		this.fleetIndex.putDevices(snapshot.devices());
+		Optional.ofNullable(snapshot.devicesSettings()).ifPresent(this.devicesSettings::putAll);
+		Optional.ofNullable(snapshot.deviceValuespaces()).ifPresent(this.deviceIdFeatureModelSettingsValuespace::putAll);
+		this.setRoomsSnapshot(new RoomsSnapshot(
+				Optional.ofNullable(snapshot.rooms()).orElse(Collections.emptyList()),
+				Optional.ofNullable(snapshot.devicesRooms()).orElse(Collections.emptyList()),
+				null, snapshot.timestamp()));
+		if (this.valuespaceDiskCache != null) {
+			new HashSet<>(this.deviceIdFeatureModelSettingsValuespace.values()).forEach(url ->
+					Optional.ofNullable(this.valuespaceDiskCache.read(url)).ifPresent(valuespace -> this.featureModelSettingsValuespace.put(url, valuespace)));
 		}
+		this.provisionalRetrievals.addAll(EnumSet.allOf(RetrievalType.class));
+		this.logger.info(String.format("Restored %s devices from the adapter snapshot taken at %s, served as provisional data until retrieved again.",
+				snapshot.devices().size(), Instant.ofEpochMilli(snapshot.timestamp())));
 	}
+
 	/**
 	 * Checks whether the specified property group is configured to be displayed.
 	 *
@@ -1225,11 +1995,11 @@ public class JabraCloudCommunicator extends RestCommunicator implements Monitora
 	 * @return the mapped response object, or null if response is empty
 	 * @throws FailedLoginException if authentication fails
 	 */
-	private <T> T fetchData(String endpoint, Class<T> responseClass) throws FailedLoginException {
+	<T> T fetchData(String endpoint, Class<T> responseClass) throws FailedLoginException {
 		String responseClassName = responseClass.getSimpleName();
 		try {
 			this.requestStateHandler.pushRequest(endpoint);
-			T response = super.doGet(endpoint, responseClass);
+			T response = this.doConditionalGet(endpoint, () -> super.doGet(endpoint, responseClass));
 			if (Objects.isNull(response) && this.logger.isWarnEnabled()) {
 				this.logger.warn(String.format(Constant.FETCHED_DATA_NULL_WARNING, endpoint, responseClassName));
 			}
@@ -1246,71 +2016,78 @@ public class JabraCloudCommunicator extends RestCommunicator implements Monitora
 	}
 
 	/**
-	 * Fetches data from a given endpoint and extracts a specific field to map using a {@link TypeReference}.
+	 * Fetches all pages of a paginated list endpoint, following the continuation tokens.
+	 * Each page is parsed in a single streaming pass by the {@link JabraItemsPageHttpMessageConverter}.
+	 * The request of the next page is submitted to the {@link RequestExecutor} as soon as the current page is parsed,
+	 * so it runs while the current page is processed by the consumer.
 	 *
 	 * @param endpoint the API endpoint to fetch data from
-	 * @param indicatedField the field name in the JSON response to extract and map
-	 * @param typeReference the {@link TypeReference} defining the target type
-	 * @param <T> the type of the expected response
-	 * @return the mapped response object, or null if response is empty
+	 * @param pageType the {@link ParameterizedTypeReference} of the page, defining the item type
+	 * @param pageConsumer consumer of the items of each page, called in the page order
+	 * @param <T> the type of the items
+	 * @return true if all pages were retrieved, false if the listing was interrupted by an empty page or an error
 	 * @throws FailedLoginException if authentication fails
 	 */
-	<T> T fetchData(String endpoint, String indicatedField, TypeReference<T> typeReference) throws FailedLoginException {
-		String typeReferenceName = typeReference.getType().getTypeName();
+	<T> boolean fetchPages(String endpoint, ParameterizedTypeReference<ItemsPage<T>> pageType, Consumer<List<T>> pageConsumer) throws FailedLoginException {
+		String pageTypeName = pageType.getType().getTypeName();
+		RequestExecutor executor = this.obtainRequestExecutor();
+		CompletableFuture<ItemsPage<T>> nextPage = null;
 		try {
 			this.requestStateHandler.pushRequest(endpoint);
 
-			List<Object> aggregatedItems = null;
 			String currentEndpoint = endpoint;
-			boolean isList = typeReference.getType() instanceof ParameterizedType
-					&& List.class.isAssignableFrom(
-					(Class<?>) ((ParameterizedType) typeReference.getType()).getRawType());
-
+			ItemsPage<T> page = super.doGet(currentEndpoint, pageType);
 			while (true) {
-				JsonNode response = super.doGet(currentEndpoint, JsonNode.class);
-
-				if (Objects.isNull(response)) {
+				if (Objects.isNull(page)) {
 					if (this.logger.isWarnEnabled()) {
-						this.logger.warn(String.format(Constant.FETCHED_DATA_NULL_WARNING, currentEndpoint, typeReferenceName));
+						this.logger.warn(String.format(Constant.FETCHED_DATA_NULL_WARNING, currentEndpoint, pageTypeName));
 					}
-					break;
+					return false;
 				}
-
-				JsonNode dataNode = this.objectMapper.readTree(response.toString()).get(indicatedField);
-				T mappedResponse = this.objectMapper.readValue(dataNode.toString(), typeReference);
-
-				JsonNode tokenNode = response.at("/continuationToken");
-				String continuationToken = tokenNode.isMissingNode() || tokenNode.isNull()
-						? null
-						: tokenNode.asText();
-
-				if (continuationToken == null || !isList) {
-					if (isList && aggregatedItems != null) {
-						aggregatedItems.addAll((List<?>) mappedResponse);
-						this.requestStateHandler.resolveError(endpoint);
-						return (T) aggregatedItems;
-					}
-					this.requestStateHandler.resolveError(endpoint);
-					return mappedResponse;
+				if (page.continuationToken() != null) {
+					String nextEndpoint = appendContinuationToken(endpoint, page.continuationToken());
+					nextPage = executor.supplyAsync(() -> super.doGet(nextEndpoint, pageType));
+					currentEndpoint = nextEndpoint;
 				}
-
-				if (aggregatedItems == null) {
-					aggregatedItems = new ArrayList<>((List<?>) mappedResponse);
-				} else {
-					aggregatedItems.addAll((List<?>) mappedResponse);
+				pageConsumer.accept(page.items());
+				if (nextPage == null) {
+					break;
 				}
-
-				currentEndpoint = appendContinuationToken(endpoint, continuationToken);
+				page = awaitPage(nextPage);
+				nextPage = null;
 			}
 
 			this.requestStateHandler.resolveError(endpoint);
-			return isList && aggregatedItems != null ? (T) aggregatedItems : null;
+			return true;
 		} catch (FailedLoginException | ResourceNotReachableException e) {
 			throw e;
 		} catch (Exception e) {
 			this.requestStateHandler.pushError(endpoint, e);
 			this.logger.error(String.format(Constant.FETCH_DATA_FAILED, endpoint), e);
-			return null;
+			return false;
+		} finally {
+			if (nextPage != null) {
+				nextPage.cancel(true);
+			}
+		}
+	}
+
+	/**
+	 * Waits for a page requested asynchronously.
+	 *
+	 * @param page pending page request
+	 * @param <T> the type of the items
+	 * @return the page
+	 * @throws Exception if the page request failed
+	 */
+	private <T> ItemsPage<T> awaitPage(CompletableFuture<ItemsPage<T>> page) throws Exception {
+		try {
+			return page.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof Exception) {
+				throw (Exception) e.getCause();
+			}
+			throw e;
 		}
 	}
 
@@ -1322,7 +2099,52 @@ public class JabraCloudCommunicator extends RestCommunicator implements Monitora
 	 * @return T return type based on reference argument
 	 * */
 	<T> T fetchData(String endpoint, ParameterizedTypeReference<T> reference) throws Exception {
-		return doGet(endpoint, reference);
+		return this.doConditionalGet(endpoint, () -> doGet(endpoint, reference));
+	}
+
+	/**
+	 * Executes a GET request of the endpoint, as a conditional request if the endpoint belongs to
+	 * the {@link EndpointFamily#DEVICE_SETTINGS} or {@link EndpointFamily#ROOMS} family.
+	 * A 304 (Not Modified) response of a conditional request is answered with the previously parsed response.
+	 *
+	 * @param endpoint uri to request
+	 * @param request GET request to execute
+	 * @return T response of the request
+	 * @throws Exception if the request fails
+	 */
+	private <T> T doConditionalGet(String endpoint, Callable<T> request) throws Exception {
+		EndpointFamily family = EndpointFamily.fromPath(endpoint);
+		if (family == EndpointFamily.DEVICE_SETTINGS || family == EndpointFamily.ROOMS) {
+			return this.jabraCloudRequestInterceptor.getConditionalGetCache().fetch(endpoint, request);
+		}
+		return request.call();
+	}
+
+	/**
+	 * Starts a new retrieval cycle of the API request state, so the requests of past cycles
+	 * are not considered by {@link RequestStateHandler#verifyRequestState()}.
+	 */
+	void resetRequestState() {
+		RequestStateHandler handler = this.requestStateHandler;
+		if (handler != null) {
+			handler.clearRequests();
+		}
+	}
+
+	/**
+	 * Removes the cached conditional responses of the settings and rooms of devices no longer present.
+	 *
+	 * @param currentDevices devices currently monitored
+	 */
+	void retainConditionalResponses(List<Device> currentDevices) {
+		Set<String> endpoints = new HashSet<>();
+		currentDevices.forEach(device -> {
+			endpoints.add(String.format(ApiConstant.DEVICE_SETTINGS_ENDPOINT, device.getId()));
+			if (device.getGroupId() != null) {
+				endpoints.add(String.format(ApiConstant.ROOMS_ENDPOINT, device.getGroupId()));
+			}
+		});
+		this.jabraCloudRequestInterceptor.getConditionalGetCache().retain(endpoints);
 	}
 	/**
 	 * Append continuationToken query string parameter to the origin endpoint
@@ -1347,6 +2169,164 @@ public class JabraCloudCommunicator extends RestCommunicator implements Monitora
 		this.doPatch(endpoint, requestBody, Object.class);
 	}
 
+	/**
+	 * Builds the aggregated device of a device, with its properties and controls.
+	 *
+	 * @param device the {@link Device} to build the aggregated device for
+	 * @param isDeviceInRoom whether the device is a member of a room
+	 * @return built {@link AggregatedDevice}
+	 */
+	private AggregatedDevice buildAggregatedDevice(Device device, boolean isDeviceInRoom) {
+		AggregatedDevice aggregatedDevice = new AggregatedDevice();
+		aggregatedDevice.setDeviceId(device.getId());
+		String deviceName = device.getName();
+		if (StringUtils.isNullOrEmpty(deviceName)) {
+			deviceName = device.getProductName();
+		}
+		aggregatedDevice.setDeviceName(deviceName);
+
+		aggregatedDevice.setDeviceModel(device.getProductName());
+		aggregatedDevice.setDeviceMake("Jabra");
+		aggregatedDevice.setType("AV Devices");
+		aggregatedDevice.setCategory(defineDeviceCategory(device.getProductName()));
+
+		String deviceConnectionStatus = device.getDeviceConnectionStatus();
+		aggregatedDevice.setDeviceOnline(StringUtils.isNotNullOrEmpty(deviceConnectionStatus) && !Constant.STATUS_OFFLINE.equals(deviceConnectionStatus));
+		aggregatedDevice.setSerialNumber(device.getSerialNumber());
+		aggregatedDevice.setTimestamp(System.currentTimeMillis());
+
+		Map<String, String> properties = new HashMap<>(this.getAggregatedGeneralProperties(device, isDeviceInRoom));
+		List<AdvancedControllableProperty> controllableProperties = new ArrayList<>();
+		if (this.shouldDisplayGroup(Constant.AGGREGATED_COMPUTER_GROUP)) {
+			properties.putAll(this.getComputerProperties(device.getComputer()));
+		}
+		if (this.shouldDisplayGroup(Constant.AGGREGATED_CLIENT_GROUP)) {
+			properties.putAll(this.getClientProperties(device.getJabraClient()));
+		}
+		if (this.shouldDisplayGroup(Constant.AGGREGATED_SETTINGS_GROUP)) {
+			this.processSettingsProperties(device, properties, controllableProperties);
+		}
+
+		Optional.of(controllableProperties).filter(List::isEmpty).ifPresent(l -> l.add(Constant.DUMMY_CONTROLLER));
+
+		aggregatedDevice.setProperties(properties);
+		aggregatedDevice.setControllableProperties(controllableProperties);
+		return aggregatedDevice;
+	}
+
+	/**
+	 * Selects the aggregated devices to deliver from {@link #localAggregatedDevices}.
+	 * <p>
+	 * When {@link #deltaDelivery} is enabled, only the devices whose properties or controls changed since their last delivery
+	 * are delivered, except every {@link #fullDeliveryInterval}, when all devices are delivered again.
+	 * All devices are delivered otherwise.
+	 * Requested devices are always delivered, whether they changed or not.
+	 * Signatures are only recorded for the delivered devices.
+	 * </p>
+	 *
+	 * @param requestedDeviceIds IDs of the requested devices, {@code null} to select from all devices
+	 * @return aggregated devices to deliver
+	 */
+	List<AggregatedDevice> deliverAggregatedDevices(Set<String> requestedDeviceIds) {
+		List<AggregatedDevice> aggregatedDevices = this.localAggregatedDevices;
+		if (aggregatedDevices != null && requestedDeviceIds != null) {
+			aggregatedDevices = aggregatedDevices.stream()
+					.filter(aggregatedDevice -> requestedDeviceIds.contains(aggregatedDevice.getDeviceId()))
+					.collect(Collectors.toList());
+		}
+		if (aggregatedDevices == null || !this.deltaDelivery) {
+			this.deliveredDeviceSignatures.clear();
+			this.lastDeliveredDevices = aggregatedDevices != null ? aggregatedDevices.size() : 0;
+			return aggregatedDevices;
+		}
+		if (requestedDeviceIds != null) {
+			for (AggregatedDevice aggregatedDevice : aggregatedDevices) {
+				this.updateDeliverySignature(aggregatedDevice);
+			}
+			this.lastDeliveredDevices = aggregatedDevices.size();
+			return aggregatedDevices;
+		}
+		long now = System.currentTimeMillis();
+		boolean fullDelivery = now - this.lastFullDeliveryTimestamp >= this.fullDeliveryInterval;
+		if (fullDelivery) {
+			this.deliveredDeviceSignatures.clear();
+			this.lastFullDeliveryTimestamp = now;
+		}
+		List<AggregatedDevice> delivered = fullDelivery ? aggregatedDevices : new ArrayList<>();
+		Set<String> deviceIds = new HashSet<>();
+		for (AggregatedDevice aggregatedDevice : aggregatedDevices) {
+			String deviceId = aggregatedDevice.getDeviceId();
+			if (deviceId == null) {
+				if (!fullDelivery) {
+					delivered.add(aggregatedDevice);
+				}
+				continue;
+			}
+			deviceIds.add(deviceId);
+			if (this.updateDeliverySignature(aggregatedDevice) && !fullDelivery) {
+				delivered.add(aggregatedDevice);
+			}
+		}
+		this.deliveredDeviceSignatures.keySet().retainAll(deviceIds);
+		this.lastDeliveredDevices = delivered.size();
+		return delivered;
+	}
+
+	/**
+	 * Records the signature of an aggregated device being delivered, unless the recorded one still matches it.
+	 *
+	 * @param aggregatedDevice aggregated device being delivered, with a device ID
+	 * @return {@code true} if the device changed since its last delivery, {@code false} otherwise
+	 */
+	private boolean updateDeliverySignature(AggregatedDevice aggregatedDevice) {
+		int hash = this.generateDeliveryHash(aggregatedDevice);
+		DeliverySignature signature = this.deliveredDeviceSignatures.get(aggregatedDevice.getDeviceId());
+		if (signature != null && signature.matches(hash, aggregatedDevice)) {
+			return false;
+		}
+		this.deliveredDeviceSignatures.put(aggregatedDevice.getDeviceId(), DeliverySignature.of(hash, aggregatedDevice));
+		return true;
+	}
+
+	/**
+	 * Generates the hash of the delivered state of an aggregated device: its name, status, properties,
+	 * and the names, types and values of its controls. Timestamps are left out, as they are refreshed on every retrieval.
+	 *
+	 * @param aggregatedDevice aggregated device to generate the hash for
+	 * @return hash of the aggregated device
+	 */
+	private int generateDeliveryHash(AggregatedDevice aggregatedDevice) {
+		int signature = Objects.hash(aggregatedDevice.getDeviceName(), aggregatedDevice.getDeviceOnline(), aggregatedDevice.getProperties());
+		List<AdvancedControllableProperty> controls = aggregatedDevice.getControllableProperties();
+		if (controls != null) {
+			for (AdvancedControllableProperty control : controls) {
+				Class<?> controlType = control.getType() != null ? control.getType().getClass() : null;
+				signature = 31 * signature + Objects.hash(control.getName(), controlType, control.getValue());
+			}
+		}
+		return signature;
+	}
+
+	/**
+	 * Generates the fingerprint of the source data an aggregated device is built from.
+	 *
+	 * @param device the {@link Device} to generate the fingerprint for
+	 * @param isDeviceInRoom whether the device is a member of a room
+	 * @return fingerprint of the device
+	 */
+	private DeviceFingerprint generateDeviceFingerprint(Device device, boolean isDeviceInRoom) {
+		String deviceId = device.getId();
+		Map<String, OptionDetail> pendingChanges = this.pendingSettings.getSettings(deviceId);
+		String settingsValuespaceUrl = null;
+		boolean settingsValuespaceLoaded = false;
+		if (this.shouldDisplayGroup(Constant.AGGREGATED_SETTINGS_GROUP)) {
+			settingsValuespaceUrl = this.deviceIdFeatureModelSettingsValuespace.get(deviceId);
+			settingsValuespaceLoaded = settingsValuespaceUrl != null && this.featureModelSettingsValuespace.containsKey(settingsValuespaceUrl);
+		}
+		return new DeviceFingerprint(DeviceSnapshot.of(device), this.devicesSettings.get(deviceId),
+				pendingChanges.isEmpty() ? Collections.emptyMap() : new HashMap<>(pendingChanges), isDeviceInRoom, settingsValuespaceUrl, settingsValuespaceLoaded);
+	}
+
 	/**
 	 * Define device category by product name
 	 * The category names defined by Jabra may be qute specific, for instance
@@ -1370,4 +2350,130 @@ public class JabraCloudCommunicator extends RestCommunicator implements Monitora
 		}
 		return Constant.CATEGORY_GENERIC;
 	}
+
+	/**
+	 * Fingerprint of the source data an aggregated device is built from.
+	 * The device is captured by an immutable snapshot of its fields, as devices are updated in place when rooms are retrieved.
+	 * The valuespace is captured by its URL and availability only, so evicted valuespaces are not retained by the fingerprints.
+	 *
+	 * @param device snapshot of the {@link Device} fields
+	 * @param settings settings of the device
+	 * @param pendingChanges snapshot of the pending settings changes of the device
+	 * @param isDeviceInRoom whether the device is a member of a room
+	 * @param settingsValuespaceUrl settings valuespace URL of the device, {@code null} if unknown or not displayed
+	 * @param settingsValuespaceLoaded whether the settings valuespace of the device is loaded
+	 */
+	private record DeviceFingerprint(DeviceSnapshot device, List<Setting> settings, Map<String, OptionDetail> pendingChanges,
+			boolean isDeviceInRoom, String settingsValuespaceUrl, boolean settingsValuespaceLoaded) {
+	}
+
+	/**
+	 * Immutable snapshot of the fields of a {@link Device}, including its computer and client.
+	 */
+	private record DeviceSnapshot(String id, String serialNumber, String name, Integer productId, String variantType, String productName,
+			String firmwareVersion, Boolean firmwareUpdateInProgress, String groupId, String addedAt, String lastSeenAt, Boolean connected,
+			String deviceConnectionStatus, ComputerSnapshot computer, ClientSnapshot jabraClient, String roomName, String roomType, String roomLocation) {
+		private static DeviceSnapshot of(Device device) {
+			Computer computer = device.getComputer();
+			JabraClient client = device.getJabraClient();
+			return new DeviceSnapshot(device.getId(), device.getSerialNumber(), device.getName(), device.getProductId(), device.getVariantType(),
+					device.getProductName(), device.getFirmwareVersion(), device.getFirmwareUpdateInProgress(), device.getGroupId(), device.getAddedAt(),
+					device.getLastSeenAt(), device.getConnected(), device.getDeviceConnectionStatus(),
+					computer != null ? new ComputerSnapshot(computer.getComputerName(), computer.getOperatingSystem(), computer.getUserName(),
+							computer.getIpAddress(), computer.getMacAddress()) : null,
+					client != null ? new ClientSnapshot(client.getClient(), client.getClientName(), client.getClientType(),
+							client.getClientVersion(), client.getAutoUpdate()) : null,
+					device.getRoomName(), device.getRoomType(), device.getRoomLocation());
+		}
+	}
+
+	/**
+	 * Immutable snapshot of the fields of a {@link Computer}.
+	 */
+	private record ComputerSnapshot(String computerName, String operatingSystem, String userName, String ipAddress, String macAddress) {
+	}
+
+	/**
+	 * Immutable snapshot of the fields of a {@link JabraClient}.
+	 */
+	private record ClientSnapshot(String client, String clientName, String clientType, String clientVersion, Boolean autoUpdate) {
+	}
+
+	/**
+	 * Aggregated device with the fingerprint of the source data it was built from.
+	 *
+	 * @param fingerprint fingerprint of the source data
+	 * @param device built aggregated device
+	 */
+	private record FingerprintedDevice(DeviceFingerprint fingerprint, AggregatedDevice device) {
+	}
+
+	/**
+	 * Delivered state of an aggregated device, compared field by field, with the hash only used as a quick first check.
+	 * Properties and controls are copied, as aggregated devices are updated in place.
+	 *
+	 * @param hash hash of the delivered state
+	 * @param deviceName name of the device
+	 * @param deviceOnline status of the device
+	 * @param properties copy of the properties of the device
+	 * @param controls names, types and values of the controls of the device
+	 */
+	private record DeliverySignature(int hash, String deviceName, Boolean deviceOnline, Map<String, String> properties, List<ControlState> controls) {
+		private static DeliverySignature of(int hash, AggregatedDevice aggregatedDevice) {
+			Map<String, String> properties = aggregatedDevice.getProperties() != null ? new HashMap<>(aggregatedDevice.getProperties()) : null;
+			List<ControlState> controls = null;
+			if (aggregatedDevice.getControllableProperties() != null) {
+				controls = new ArrayList<>(aggregatedDevice.getControllableProperties().size());
+				for (AdvancedControllableProperty control : aggregatedDevice.getControllableProperties()) {
+					controls.add(ControlState.of(control));
+				}
+			}
+			return new DeliverySignature(hash, aggregatedDevice.getDeviceName(), aggregatedDevice.getDeviceOnline(), properties, controls);
+		}
+
+		/**
+		 * Checks whether the signature matches the current state of an aggregated device.
+		 *
+		 * @param currentHash hash of the current state of the device
+		 * @param aggregatedDevice aggregated device to check
+		 * @return {@code true} if the device did not change since the signature was recorded
+		 */
+		private boolean matches(int currentHash, AggregatedDevice aggregatedDevice) {
+			if (hash != currentHash || !Objects.equals(deviceName, aggregatedDevice.getDeviceName())
+					|| !Objects.equals(deviceOnline, aggregatedDevice.getDeviceOnline()) || !Objects.equals(properties, aggregatedDevice.getProperties())) {
+				return false;
+			}
+			List<AdvancedControllableProperty> currentControls = aggregatedDevice.getControllableProperties();
+			if (controls == null || currentControls == null) {
+				return controls == null && currentControls == null;
+			}
+			if (controls.size() != currentControls.size()) {
+				return false;
+			}
+			for (int i = 0; i < controls.size(); i++) {
+				if (!controls.get(i).matches(currentControls.get(i))) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * Delivered state of a control.
+	 *
+	 * @param name name of the control
+	 * @param type type class of the control, {@code null} if the control has no type
+	 * @param value value of the control
+	 */
+	private record ControlState(String name, Class<?> type, Object value) {
+		private static ControlState of(AdvancedControllableProperty control) {
+			return new ControlState(control.getName(), control.getType() != null ? control.getType().getClass() : null, control.getValue());
+		}
+
+		private boolean matches(AdvancedControllableProperty control) {
+			Class<?> controlType = control.getType() != null ? control.getType().getClass() : null;
+			return Objects.equals(name, control.getName()) && type == controlType && Objects.equals(value, control.getValue());
+		}
+	}
 }
@@ -4,178 +4,427 @@
 package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.function.BooleanSupplier;
 import java.util.stream.Collectors;
 
+import javax.security.auth.login.FailedLoginException;
+
 import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.settings.Setting;
 import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.settings.valuespace.SettingsValuespace;
 import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.types.adapter.ClientTypeFilter;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.types.adapter.EndpointFamily;
 import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.types.adapter.RetrievalType;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
-import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common.Util;
+import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common.CircuitBreaker;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common.CircuitBreakers;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common.NegativeCache;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common.RequestExecutor;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common.RetrievalPipeline;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common.RetryAfterGate;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common.SettingsPollingTiers;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common.SingleFlight;
 import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common.constants.ApiConstant;
 import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common.constants.Constant;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.data.FleetIndex;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.data.ValuespaceDiskCache;
 import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.IntervalSetting;
 import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.device.Device;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.rooms.DeviceOverview;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.rooms.Room;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.rooms.RoomsSnapshot;
 import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.settings.Settings;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.web.util.UriComponentsBuilder;
 
 /**
- * This class implements a data loader that periodically collects settings data
- * from a list of Jabra devices via the {@link JabraCloudCommunicator}.
+ * This class implements a data loader that periodically collects devices, rooms and settings data
+ * from the Jabra Cloud via the {@link JabraCloudCommunicator}.
+ * <p>
+ * Each {@link RetrievalType} handled by the loader runs as an independent {@link RetrievalPipeline}, with its own cadence
+ * defined by the related {@link IntervalSetting}, its own in-flight guard and its own result publication,
+ * so a long device settings sweep does not delay the devices refresh, and the reverse.
+ * Each pipeline is executed at most once per monitoring cycle, unless woken up earlier by {@link #setNextCollectionTime(long)}.
+ * Pipelines are suspended while the device communicator is paused, and resumed by {@link #updateValidRetrieveStatisticsTimestamp()}.
+ * </p>
  * This class is thread-safe with the use of {@code volatile} for key flags.
  *
  * @author Kevin / Symphony Dev Team
  * @since 1.0.0
  */
-public class JabraCloudDataLoader implements Runnable {
+public class JabraCloudDataLoader {
 	private static final long POLLING_CYCLE_INTERVAL = Duration.ofMinutes(1).toMillis();
 	private static final long RETRIEVE_STATISTICS_TIMEOUT = Duration.ofMinutes(3).toMillis();
 
 	private final Log logger = LogFactory.getLog(this.getClass());
 	private final JabraCloudCommunicator communicator;
+	private final RequestExecutor requestExecutor;
 	private final List<Device> devices;
+	/**
+	 * Keyed index of the fleet, the devices and rooms of which are maintained by the devices and rooms tasks
+	 */
+	private final FleetIndex fleetIndex;
 	private final Map<String, List<Setting>> devicesSettings;
-	private final Map<String, SettingsValuespace> featureModelSettingsValuespace;
+	private final SingleFlight<String, SettingsValuespace> valuespaceLoader;
 	private final Map<String, String> deviceIdFeatureModelSettingsValuespace;
-	private final IntervalSetting deviceSettingsInterval;
-	private final IntervalSetting devicesInterval;
+	private final EnumMap<RetrievalType, RetrievalPipeline> pipelines;
 	private final String settingsValuespaceURLTemplate;
 	private final ClientTypeFilter clientTypeFilter;
 	private final int apiPageSize;
+	private final int deviceSettingsConcurrency;
+	/**
+	 * Polling tiers of the device settings, {@code null} if adaptive polling is disabled
+	 */
+	private final SettingsPollingTiers settingsPollingTiers;
+	private final RetryAfterGate retryAfterGate;
+	private final CircuitBreakers circuitBreakers;
+	/**
+	 * Persistent cache of the settings valuespaces, {@code null} if disabled
+	 */
+	private final ValuespaceDiskCache valuespaceDiskCache;
+	/**
+	 * Negative cache of the valuespace URLs which failed to load, {@code null} if disabled
+	 */
+	private final NegativeCache<String> valuespaceNegativeCache;
+	private final String apiHost;
 
 	private volatile boolean inProgress;
 	private volatile boolean devicePaused;
+	private volatile boolean devicesPublished;
 	private volatile long validRetrieveStatisticsTimestamp;
-	private volatile boolean cycleExecuted;
-	private volatile long nextCollectionTime;
 
 	public JabraCloudDataLoader(
-			JabraCloudCommunicator communicator,
+			JabraCloudCommunicator communicator, ScheduledExecutorService scheduler, RequestExecutor requestExecutor,
 			List<Device> devices,
-			Map<String, List<Setting>> devicesSettings, Map<String, SettingsValuespace> featureModelSettingsValuespace, Map<String, String> deviceIdFeatureModelSettingsValuespace,
-			ClientTypeFilter clientTypeFilter, int apiPageSize, String settingsValuespaceURLTemplate
+			Map<String, List<Setting>> devicesSettings, SingleFlight<String, SettingsValuespace> valuespaceLoader, Map<String, String> deviceIdFeatureModelSettingsValuespace,
+			ClientTypeFilter clientTypeFilter, int apiPageSize, String settingsValuespaceURLTemplate, int deviceSettingsConcurrency,
+			SettingsPollingTiers settingsPollingTiers, RetryAfterGate retryAfterGate, CircuitBreakers circuitBreakers,
+			ValuespaceDiskCache valuespaceDiskCache, NegativeCache<String> valuespaceNegativeCache
 	) {
 		this.communicator = communicator;
+		this.requestExecutor = requestExecutor;
 		this.devices = devices;
+		this.fleetIndex = communicator.getFleetIndex();
+		this.fleetIndex.putDevices(devices);
 		this.devicesSettings = devicesSettings;
-		this.deviceSettingsInterval = communicator.getIntervalSettingByType(RetrievalType.DEVICE_SETTINGS);
-		this.devicesInterval = communicator.getIntervalSettingByType(RetrievalType.DEVICES);
-		this.featureModelSettingsValuespace = featureModelSettingsValuespace;
+		this.valuespaceLoader = valuespaceLoader;
 		this.deviceIdFeatureModelSettingsValuespace = deviceIdFeatureModelSettingsValuespace;
 		this.settingsValuespaceURLTemplate = settingsValuespaceURLTemplate;
 		this.clientTypeFilter = clientTypeFilter;
 		this.apiPageSize = apiPageSize;
+		this.deviceSettingsConcurrency = Math.max(1, deviceSettingsConcurrency);
+		this.settingsPollingTiers = settingsPollingTiers;
+		this.retryAfterGate = retryAfterGate;
+		this.circuitBreakers = circuitBreakers;
+		this.valuespaceDiskCache = valuespaceDiskCache;
+		this.valuespaceNegativeCache = valuespaceNegativeCache;
+		this.apiHost = communicator.getHost();
+
+		this.pipelines = new EnumMap<>(RetrievalType.class);
+		this.registerPipeline(scheduler, RetrievalType.DEVICES, this::isActive, this::collectDevices);
+		this.registerPipeline(scheduler, RetrievalType.ROOMS, () -> this.isActive() && this.devicesPublished, this::collectRooms);
+		this.registerPipeline(scheduler, RetrievalType.DEVICE_SETTINGS, () -> this.isActive() && this.devicesPublished, this::collectDevicesSettings);
 
 		this.inProgress = true;
 		this.devicePaused = true;
-		this.nextCollectionTime = System.currentTimeMillis();
-		this.cycleExecuted = false;
 	}
 
 	/**
-	 * Sets {@link #nextCollectionTime} value
+	 * Retrieves the {@link RetrievalPipeline} of the given type.
 	 *
-	 * @param nextCollectionTime new value of {@link #nextCollectionTime}
+	 * @param type retrieval type of the pipeline
+	 * @return the pipeline, or {@code null} if the retrieval type is not handled by the loader
+	 */
+	public RetrievalPipeline getPipeline(RetrievalType type) {
+		return this.pipelines.get(type);
+	}
+
+	/**
+	 * Sets the next collection time of all the pipelines, waking up immediately those whose interval is already valid.
+	 *
+	 * @param nextCollectionTime timestamp (ms) the pipelines can be executed from
 	 */
 	public void setNextCollectionTime(long nextCollectionTime) {
-		this.nextCollectionTime = nextCollectionTime;
+		this.pipelines.values().forEach(pipeline -> pipeline.setNextCollectionTime(nextCollectionTime));
 	}
 
 	/**
-	 * Starts the main loop for collecting the map of {@link Device} with {@link Settings} data.
+	 * Starts the data collection by scheduling all the pipelines.
 	 */
-	@Override
-	public void run() {
-		while (this.inProgress) {
-			Util.delayExecution(500);
-			if (!this.inProgress) {
-				if (this.logger.isDebugEnabled()) {
-					this.logger.debug("Main data collection thread is not in progress, breaking.");
-				}
-				break;
-			}
+	public void start() {
+		this.pipelines.values().forEach(RetrievalPipeline::schedule);
+	}
+
+	/**
+	 * Stops the data collection process, cancelling the pending executions of all the pipelines.
+	 */
+	public void stop() {
+		this.inProgress = false;
+		this.pipelines.values().forEach(RetrievalPipeline::cancel);
+	}
+
+	/**
+	 * Updates the {@code validRetrieveStatisticsTimestamp}, resuming the pipelines if the collection was paused.
+	 */
+	public void updateValidRetrieveStatisticsTimestamp() {
+		boolean wasPaused;
+		synchronized (this) {
+			wasPaused = this.devicePaused;
+			validRetrieveStatisticsTimestamp = System.currentTimeMillis() + RETRIEVE_STATISTICS_TIMEOUT;
 			this.updateAggregatorStatus();
-			if (this.devicePaused) {
-				if (this.logger.isDebugEnabled()) {
-					this.logger.debug("The device communicator is paused, data collector is not active.");
+		}
+		if (wasPaused) {
+			this.start();
+		}
+	}
+
+	/**
+	 * Creates and registers a {@link RetrievalPipeline} for the given retrieval type.
+	 *
+	 * @param scheduler scheduler to execute the pipeline on
+	 * @param type retrieval type of the pipeline
+	 * @param active condition under which the pipeline is executed
+	 * @param task retrieval task of the pipeline
+	 */
+	private void registerPipeline(ScheduledExecutorService scheduler, RetrievalType type, BooleanSupplier active, Runnable task) {
+		this.pipelines.put(type, new RetrievalPipeline(type, this.communicator.getIntervalSettingByType(type), scheduler, active,
+				this::getMonitoringCycleMs, this::getDeferralMs, task));
+	}
+
+	/**
+	 * Checks whether the data collection is running and the device communicator is not paused.
+	 *
+	 * @return {@code true} if the pipelines should be executed, {@code false} otherwise
+	 */
+	private boolean isActive() {
+		if (!this.inProgress) {
+			return false;
+		}
+		this.updateAggregatorStatus();
+		return !this.devicePaused;
+	}
+
+	/**
+	 * Retrieves the monitoring cycle of the adapter, the minimum period of the pipelines.
+	 *
+	 * @return monitoring cycle in milliseconds
+	 */
+	private long getMonitoringCycleMs() {
+		try {
+			return this.communicator.getMonitoringRate() * POLLING_CYCLE_INTERVAL;
+		} catch (NoSuchMethodError error) {
+			logger.error("Unsupported feature: getMonitoringRate isn't available on current Cloud Connector version.", error);
+			return POLLING_CYCLE_INTERVAL;
+		}
+	}
+
+	/**
+	 * Retrieves the time the pipelines have to be deferred for, while the API host is paused by the {@link RetryAfterGate}.
+	 * A non-zero result is recorded as a deferral.
+	 *
+	 * @return deferral in milliseconds, {@code 0} if the API host is not paused
+	 */
+	private long getDeferralMs() {
+		long deferralMs = this.retryAfterGate.getRemainingPauseMs(this.apiHost);
+		if (deferralMs > 0) {
+			this.retryAfterGate.recordDeferral();
+		}
+		return deferralMs;
+	}
+
+	/**
+	 * Devices task: retrieves the list of devices page by page and merges each page into {@link #devices} as soon as it is parsed,
+	 * replacing the existing devices with the retrieved ones so that updated device data (e.g. firmware version) is picked up.
+	 * The next page is requested before the current one is merged, and devices of earlier pages are visible
+	 * before the listing finishes. Devices missing from the listing are removed only once all pages are retrieved.
+	 * The first publication of the devices list starts the rooms and device settings pipelines.
+	 * Each run starts a new retrieval cycle of the API request state.
+	 */
+	private void collectDevices() {
+		long startCycle = System.currentTimeMillis();
+		this.communicator.resetRequestState();
+		if (!this.circuitBreakers.allow(EndpointFamily.DEVICES)) {
+			this.logger.warn("Devices retrieval is skipped: the circuit breaker is open.");
+			return;
+		}
+		try {
+			String devicesEndpoint = UriComponentsBuilder.fromPath(ApiConstant.DEVICES_ENDPOINT)
+					.queryParam(ApiConstant.CLIENT_TYPE_QUERY, this.clientTypeFilter.getValue())
+					.queryParam(ApiConstant.PAGE_SIZE_QUERY, this.apiPageSize)
+					.toUriString();
+
+			Set<String> fetchedIds = new HashSet<>();
+			boolean completed = this.communicator.fetchPages(devicesEndpoint, ApiConstant.DEVICES_PAGE_TYPE,
+					page -> this.mergeDevicesPage(page, fetchedIds));
+			if (completed) {
+				if (this.fleetIndex.retainDevices(fetchedIds)) {
+					this.devices.removeIf(d -> !fetchedIds.contains(d.getId()));
 				}
-				continue;
+				this.deviceIdFeatureModelSettingsValuespace.keySet().retainAll(fetchedIds);
+				this.communicator.retainConditionalResponses(this.devices);
 			}
-
-			long startCycle = System.currentTimeMillis();
-			if (!this.cycleExecuted && this.nextCollectionTime < System.currentTimeMillis()) {
-				if (this.devicesInterval.isValid()) {
-					this.logger.info(String.format("Devices retrieval is available now. Next available: %s", this.devicesInterval.getNextAvailabilityInfo()));
-					try {
-						String devicesEndpoint = UriComponentsBuilder.fromPath(ApiConstant.DEVICES_ENDPOINT)
-								.queryParam(ApiConstant.CLIENT_TYPE_QUERY, this.clientTypeFilter.getValue())
-								.queryParam(ApiConstant.PAGE_SIZE_QUERY, this.apiPageSize)
-								.toUriString();
-
-						List<Device> fetched = this.communicator.fetchData(devicesEndpoint, ApiConstant.ITEMS_FIELD, ApiConstant.DEVICES_RES_TYPE);
-						if (fetched != null) {
-							Set<String> fetchedIds = fetched.stream().map(Device::getId).collect(Collectors.toSet());
-							Set<String> existingIds = this.devices.stream().map(Device::getId).collect(Collectors.toSet());
-
-							this.devices.removeIf(d -> !fetchedIds.contains(d.getId()));
-							fetched.stream()
-									.filter(f -> !existingIds.contains(f.getId()))
-									.forEach(this.devices::add);
-						}
-					} catch (Exception e) {
-						logger.error("Unable to retrieve devices list metadata.", e);
-					}
+			if (completed || !fetchedIds.isEmpty()) {
+				if (!this.devicesPublished) {
+					this.devicesPublished = true;
+					this.pipelines.get(RetrievalType.ROOMS).schedule();
+					this.pipelines.get(RetrievalType.DEVICE_SETTINGS).schedule();
 				}
-
-				if (this.deviceSettingsInterval.isValid() && this.communicator.shouldDisplayGroup(Constant.AGGREGATED_SETTINGS_GROUP)) {
-					this.logger.info(String.format("Device settings retrieval is available now. Next available: %s", this.deviceSettingsInterval.getNextAvailabilityInfo()));
-					this.collectAggregatedDeviceData();
+			}
+			if (completed) {
+				this.communicator.markRetrievalFresh(RetrievalType.DEVICES);
+				if (!this.communicator.shouldDisplayGroup(Constant.AGGREGATED_SETTINGS_GROUP)) {
+					this.communicator.persistSnapshot();
 				}
-				this.cycleExecuted = true;
 			}
+		} catch (Exception e) {
+			logger.error("Unable to retrieve devices list metadata.", e);
+		}
+		this.communicator.setLastMonitoringCycleDuration(Math.max(System.currentTimeMillis() - startCycle, 1L));
+	}
 
-			if (!this.inProgress) {
-				if (this.logger.isDebugEnabled()) {
-					this.logger.debug("Main data collection thread is not in progress, breaking.");
-				}
-				break;
+	/**
+	 * Merges a page of retrieved devices into {@link #devices} and {@link #fleetIndex}.
+	 * Devices already known are replaced in place, new devices are appended, so each page costs
+	 * at most two copies of the {@link #devices} array. Devices repeated across pages keep their first occurrence.
+	 *
+	 * @param page devices of the page
+	 * @param fetchedIds IDs of the devices retrieved so far in the current listing
+	 */
+	private void mergeDevicesPage(List<Device> page, Set<String> fetchedIds) {
+		this.applyRooms(page);
+		Map<String, Device> replacedDevices = new HashMap<>();
+		List<Device> addedDevices = new ArrayList<>();
+		for (Device device : page) {
+			if (device == null || device.getId() == null || !fetchedIds.add(device.getId())) {
+				continue;
 			}
-			while (this.nextCollectionTime > System.currentTimeMillis()) {
-				Util.delayExecution(1000);
+			if (this.fleetIndex.putDevice(device) != null) {
+				replacedDevices.put(device.getId(), device);
+			} else {
+				addedDevices.add(device);
 			}
-			if (this.cycleExecuted) {
-				try {
-					this.nextCollectionTime = System.currentTimeMillis() + (this.communicator.getMonitoringRate() * POLLING_CYCLE_INTERVAL);
-				} catch (NoSuchMethodError error) {
-					this.nextCollectionTime = System.currentTimeMillis() + POLLING_CYCLE_INTERVAL;
-					logger.error("Unsupported feature: getMonitoringRate isn't available on current Cloud Connector version.", error);
+		}
+		if (!replacedDevices.isEmpty()) {
+			this.devices.replaceAll(d -> replacedDevices.getOrDefault(d.getId(), d));
+		}
+		if (!addedDevices.isEmpty()) {
+			this.devices.addAll(addedDevices);
+		}
+	}
+
+	/**
+	 * Rooms task: retrieves the room of each device group in parallel, within the {@link RequestExecutor} limit,
+	 * when the {@link Constant#ROOM_GROUP} group is displayed.
+	 * Each request is checked against the {@link EndpointFamily#ROOMS} circuit breaker, so a half-open breaker lets
+	 * a single probe request through; rooms whose request is short-circuited keep their previously retrieved data.
+	 * The result is published to the {@link JabraCloudCommunicator} as a {@link RoomsSnapshot}, and applied to {@link #devices}.
+	 */
+	private void collectRooms() {
+		if (!this.communicator.shouldDisplayGroup(Constant.ROOM_GROUP)) {
+			this.communicator.markRetrievalFresh(RetrievalType.ROOMS);
+			return;
+		}
+		if (this.circuitBreakers.get(EndpointFamily.ROOMS).getState() == CircuitBreaker.State.OPEN) {
+			this.logger.warn("Rooms retrieval is skipped: the circuit breaker is open.");
+			return;
+		}
+		Set<String> groupIDs = this.devices.stream().map(Device::getGroupId).filter(Objects::nonNull).collect(Collectors.toSet());
+		List<CompletableFuture<Room>> roomRequests = groupIDs.stream()
+				.map(groupId -> this.requestExecutor.supplyAsync(() -> this.fetchRoom(groupId)))
+				.collect(Collectors.toList());
+
+		List<Room> rooms = new ArrayList<>();
+		List<DeviceOverview> devicesRooms = new ArrayList<>();
+		Exception error = null;
+		for (CompletableFuture<Room> roomRequest : roomRequests) {
+			Room room;
+			try {
+				room = roomRequest.join();
+			} catch (CompletionException e) {
+				if (e.getCause() instanceof FailedLoginException || e.getCause() instanceof ResourceNotReachableException) {
+					error = (Exception) e.getCause();
+				} else {
+					this.logger.error("Unable to retrieve room data.", e.getCause());
 				}
-				this.communicator.setLastMonitoringCycleDuration(Math.max(System.currentTimeMillis() - startCycle, 1L));
-				this.cycleExecuted = false;
+				continue;
+			}
+			if (room == null) {
+				continue;
 			}
+			rooms.add(room);
+			devicesRooms.addAll(Optional.ofNullable(room.getDevices()).orElse(Collections.emptyList()));
 		}
+		if (error != null) {
+			this.logger.error("Unable to retrieve rooms data.", error);
+			RoomsSnapshot previous = this.communicator.getRoomsSnapshot();
+			this.communicator.setRoomsSnapshot(new RoomsSnapshot(previous.rooms(), previous.devicesRooms(), error, System.currentTimeMillis()));
+			return;
+		}
+		RoomsSnapshot snapshot = new RoomsSnapshot(Collections.unmodifiableList(rooms), Collections.unmodifiableList(devicesRooms), null, System.currentTimeMillis());
+		this.communicator.setRoomsSnapshot(snapshot);
+		this.applyRooms(this.devices);
+		this.communicator.markRetrievalFresh(RetrievalType.ROOMS);
 	}
 
 	/**
-	 * Stops the data collection process.
+	 * Retrieves the room of a device group, unless the request is short-circuited by the {@link EndpointFamily#ROOMS} circuit breaker.
+	 *
+	 * @param groupId group ID of the room
+	 * @return the retrieved room, or the previously retrieved one if the request is short-circuited
+	 * @throws Exception if the request fails
 	 */
-	public void stop() {
-		this.inProgress = false;
+	private Room fetchRoom(String groupId) throws Exception {
+		if (!this.circuitBreakers.allow(EndpointFamily.ROOMS)) {
+			return this.fleetIndex.getRoom(groupId);
+		}
+		return this.communicator.fetchData(String.format(ApiConstant.ROOMS_ENDPOINT, groupId), Room.class);
 	}
 
 	/**
-	 * Updates the {@code validRetrieveStatisticsTimestamp}.
+	 * Updates the room information and the connection status of devices from the rooms indexed in {@link #fleetIndex}.
+	 *
+	 * @param targetDevices the devices to update
 	 */
-	public synchronized void updateValidRetrieveStatisticsTimestamp() {
-		validRetrieveStatisticsTimestamp = System.currentTimeMillis() + RETRIEVE_STATISTICS_TIMEOUT;
-		this.updateAggregatorStatus();
+	private void applyRooms(List<Device> targetDevices) {
+		targetDevices.forEach(device -> {
+			Room room = this.fleetIndex.getRoom(device.getGroupId());
+			if (room == null) {
+				return;
+			}
+			DeviceOverview deviceOverview = this.fleetIndex.getDeviceOverview(device.getId());
+			device.setDeviceConnectionStatus(deviceOverview != null ? deviceOverview.getDeviceConnectionStatus() : null);
+			device.setRoomName(room.getName());
+			device.setRoomType(room.getType());
+			device.setRoomLocation(room.getLocationName());
+		});
+	}
+
+	/**
+	 * Device settings task: collects the device settings when the {@link Constant#AGGREGATED_SETTINGS_GROUP} group is displayed.
+	 */
+	private void collectDevicesSettings() {
+		if (this.communicator.shouldDisplayGroup(Constant.AGGREGATED_SETTINGS_GROUP)) {
+			this.collectAggregatedDeviceData();
+		} else {
+			this.communicator.markRetrievalFresh(RetrievalType.DEVICE_SETTINGS);
+		}
 	}
 
 	/**
@@ -183,32 +432,189 @@ public class JabraCloudDataLoader implements Runnable {
 	 * <p>
 	 * For each device, this method fetches its settings from a remote API and stores them
 	 * in a temporary map. Devices are classified as supported or unsupported based on product ID.
-	 * After fetching, the existing {@link Settings} maps are cleared and updated.
+	 * When {@link #deviceSettingsConcurrency} is greater than 1, up to that number of devices are processed in parallel
+	 * by the {@link RequestExecutor}, otherwise one by one.
+	 * When adaptive polling is enabled, devices which are not due according to {@link #settingsPollingTiers}
+	 * are skipped and keep their previously collected settings; their valuespace is still refreshed,
+	 * so it is reloaded if it was evicted from the valuespace cache meanwhile.
+	 * After fetching, the existing {@link Settings} maps are cleared and updated, the sweep
+	 * duration is reported to the {@link JabraCloudCommunicator}, and the collected data is persisted to the adapter snapshot.
 	 * </p>
 	 */
 	private void collectAggregatedDeviceData() {
-		Map<String, List<Setting>> settingsList = new HashMap<>();
-		for (Device device : this.devices) {
+		long startSweep = System.currentTimeMillis();
+		Map<String, List<Setting>> settingsList = new ConcurrentHashMap<>();
+		List<Device> dueDevices = new ArrayList<>(this.devices);
+		List<Device> skippedDevices = new ArrayList<>();
+		if (this.settingsPollingTiers != null) {
+			this.settingsPollingTiers.retain(dueDevices.stream().map(Device::getId).collect(Collectors.toSet()));
+			dueDevices.removeIf(device -> {
+				if (this.settingsPollingTiers.isDue(device.getId(), device.getFirmwareVersion(), isDeviceOnline(device))) {
+					return false;
+				}
+				Optional.ofNullable(this.devicesSettings.get(device.getId())).ifPresent(settings -> settingsList.put(device.getId(), settings));
+				skippedDevices.add(device);
+				return true;
+			});
+			skippedDevices.forEach(this::refreshValuespace);
+		}
+		if (this.deviceSettingsConcurrency > 1) {
+			Semaphore sweepPermits = new Semaphore(this.deviceSettingsConcurrency);
+			List<CompletableFuture<Void>> futures = new ArrayList<>();
 			try {
-				String settingsValuespace = String.format(settingsValuespaceURLTemplate, device.getProductId(), device.getVariantType(), device.getFirmwareVersion());
-				if (!featureModelSettingsValuespace.containsKey(settingsValuespace)) {
-					SettingsValuespace valuespace = this.communicator.fetchData(settingsValuespace, new ParameterizedTypeReference<>(){});
-					featureModelSettingsValuespace.put(settingsValuespace, valuespace);
+				for (Device device : dueDevices) {
+					sweepPermits.acquire();
+					futures.add(this.requestExecutor.runAsync(() -> this.collectDeviceSettings(device, settingsList))
+							.whenComplete((result, error) -> sweepPermits.release()));
 				}
-				deviceIdFeatureModelSettingsValuespace.put(device.getId(), settingsValuespace);
+				CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (Exception e) {
+				this.logger.error("Unable to complete device settings collection.", e);
+			}
+		} else {
+			for (Device device : dueDevices) {
+				this.collectDeviceSettings(device, settingsList);
+			}
+		}
+		// Replace the entries in place, then drop the stale ones, so readers never observe a device without its settings
+		this.devicesSettings.putAll(settingsList);
+		this.devicesSettings.keySet().retainAll(settingsList.keySet());
 
-				String url = String.format(ApiConstant.DEVICE_SETTINGS_ENDPOINT, device.getId());
+		long sweepDuration = Math.max(System.currentTimeMillis() - startSweep, 1L);
+		this.communicator.setLastDeviceSettingsCycleDuration(sweepDuration);
+		this.logger.info(String.format("Device settings collection completed: %s of %s devices in %s ms, polled: %s, concurrency: %s.",
+				settingsList.size(), this.devices.size(), sweepDuration, dueDevices.size(), this.deviceSettingsConcurrency));
+		this.communicator.markRetrievalFresh(RetrievalType.DEVICE_SETTINGS);
+		this.communicator.persistSnapshot();
+	}
 
-				List<Setting> settings = this.communicator.fetchData(url, new ParameterizedTypeReference<>() {
-                });
+	/**
+	 * Collects the settings valuespace and the settings of a single device.
+	 * The valuespace is loaded through {@link #valuespaceLoader}, so devices sharing the same valuespace download it only once.
+	 * Requests of an endpoint family short-circuited by {@link #circuitBreakers} are skipped,
+	 * and the device keeps its previously collected settings.
+	 * Devices whose valuespace is blocked by {@link #valuespaceNegativeCache} are skipped entirely,
+	 * since their settings cannot be displayed without the valuespace.
+	 *
+	 * @param device the {@link Device} to collect settings for
+	 * @param settingsList map to put the collected settings to
+	 */
+	private void collectDeviceSettings(Device device, Map<String, List<Setting>> settingsList) {
+		try {
+			String settingsValuespace = String.format(settingsValuespaceURLTemplate, device.getProductId(), device.getVariantType(), device.getFirmwareVersion());
+			if (this.valuespaceNegativeCache != null && this.valuespaceNegativeCache.isBlocked(settingsValuespace)) {
+				return;
+			}
+			this.valuespaceLoader.get(settingsValuespace, () -> this.loadValuespace(settingsValuespace));
+			deviceIdFeatureModelSettingsValuespace.put(device.getId(), settingsValuespace);
+
+			if (!this.circuitBreakers.allow(EndpointFamily.DEVICE_SETTINGS)) {
+				Optional.ofNullable(this.devicesSettings.get(device.getId())).ifPresent(previous -> settingsList.put(device.getId(), previous));
+				return;
+			}
+			String url = String.format(ApiConstant.DEVICE_SETTINGS_ENDPOINT, device.getId());
+
+			List<Setting> settings = this.communicator.fetchData(url, new ParameterizedTypeReference<>() {
+			});
+			if (settings != null) {
+				if (this.settingsPollingTiers != null) {
+					this.settingsPollingTiers.recordPoll(device.getId(), !settings.equals(this.devicesSettings.get(device.getId())));
+				}
 				settingsList.put(device.getId(), settings);
+			}
+		} catch (Exception e) {
+			this.logger.error(e.getMessage(), e);
+		}
+	}
 
-			} catch (Exception e) {
-				this.logger.error(e.getMessage(), e);
+	/**
+	 * Refreshes the settings valuespace of a device skipped by {@link #settingsPollingTiers}, so it stays available
+	 * even if it was evicted from the valuespace cache. The valuespace is usually still cached,
+	 * otherwise it is loaded through {@link #valuespaceLoader}, from {@link #valuespaceDiskCache} when available.
+	 *
+	 * @param device the skipped {@link Device}
+	 */
+	private void refreshValuespace(Device device) {
+		String settingsValuespace = this.deviceIdFeatureModelSettingsValuespace.get(device.getId());
+		if (settingsValuespace == null || (this.valuespaceNegativeCache != null && this.valuespaceNegativeCache.isBlocked(settingsValuespace))) {
+			return;
+		}
+		try {
+			this.valuespaceLoader.get(settingsValuespace, () -> this.loadValuespace(settingsValuespace));
+		} catch (Exception e) {
+			this.logger.error(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Loads the settings valuespace of the URL from {@link #valuespaceDiskCache} if available, otherwise from the CDN,
+	 * storing the downloaded valuespace to {@link #valuespaceDiskCache}.
+	 * Failed or empty downloads are recorded to {@link #valuespaceNegativeCache}, so the URL is not requested again
+	 * until its entry expires.
+	 *
+	 * @param url valuespace URL
+	 * @return the valuespace, or {@code null} if it is not available
+	 * @throws Exception if the valuespace download fails
+	 */
+	private SettingsValuespace loadValuespace(String url) throws Exception {
+		if (this.valuespaceDiskCache != null) {
+			SettingsValuespace cached = this.valuespaceDiskCache.read(url);
+			if (cached != null) {
+				return cached;
 			}
 		}
-		this.devicesSettings.clear();
-		this.devicesSettings.putAll(settingsList);
+		if (!this.circuitBreakers.allow(EndpointFamily.VALUESPACE)) {
+			return null;
+		}
+		SettingsValuespace valuespace;
+		try {
+			valuespace = this.circuitBreakers.execute(EndpointFamily.VALUESPACE,
+					() -> this.communicator.fetchData(url, new ParameterizedTypeReference<SettingsValuespace>() {}));
+		} catch (Exception e) {
+			this.recordValuespaceFailure(url);
+			throw e;
+		}
+		if (valuespace == null) {
+			this.recordValuespaceFailure(url);
+			return null;
+		}
+		if (this.valuespaceNegativeCache != null) {
+			this.valuespaceNegativeCache.recordSuccess(url);
+		}
+		if (this.valuespaceDiskCache != null) {
+			this.valuespaceDiskCache.write(url, valuespace);
+		}
+		return valuespace;
+	}
+
+	/**
+	 * Records a failed valuespace download to {@link #valuespaceNegativeCache}, if enabled.
+	 *
+	 * @param url valuespace URL
+	 */
+	private void recordValuespaceFailure(String url) {
+		if (this.valuespaceNegativeCache == null) {
+			return;
+		}
+		long blockedMs = this.valuespaceNegativeCache.recordFailure(url);
+		this.logger.warn(String.format("Unable to load settings valuespace %s, next attempt in %s ms.", url, blockedMs));
+	}
+
+	/**
+	 * Checks whether the device is online, based on its connection status or, if not available, its connection flag.
+	 *
+	 * @param device the device to check
+	 * @return {@code true} if the device is online, {@code false} otherwise
+	 */
+	private static boolean isDeviceOnline(Device device) {
+		String connectionStatus = device.getDeviceConnectionStatus();
+		if (connectionStatus != null && !connectionStatus.isEmpty()) {
+			return !Constant.STATUS_OFFLINE.equals(connectionStatus);
+		}
+		return Boolean.TRUE.equals(device.getConnected());
 	}
 
 	/**
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker of a single API endpoint family.
+ * <p>
+ * The breaker is {@link State#CLOSED} while the endpoints respond. After {@link #failureThreshold} consecutive failures
+ * it becomes {@link State#OPEN} and short-circuits the requests for {@link #openDurationMs}. Then it becomes
+ * {@link State#HALF_OPEN} and lets a single probe request through: a success closes the breaker, a failure opens it again.
+ * </p>
+ *
+ * @author Symphony Dev Team
+ * @since 1.2.0
+ */
+public class CircuitBreaker {
+	/**
+	 * States of the circuit breaker
+	 */
+	public enum State {CLOSED, OPEN, HALF_OPEN}
+
+	private final int failureThreshold;
+	private final long openDurationMs;
+	private final LongAdder shortCircuitedRequests = new LongAdder();
+	private final LongSupplier clock;
+
+	private State state = State.CLOSED;
+	private int consecutiveFailures;
+	private long openedAt;
+	private boolean probeInFlight;
+	private long probeStartedAt;
+
+	public CircuitBreaker(int failureThreshold, long openDurationMs) {
+		this(failureThreshold, openDurationMs, System::currentTimeMillis);
+	}
+
+	/**
+	 * @param failureThreshold number of consecutive failures opening the breaker
+	 * @param openDurationMs time (ms) the breaker stays open before letting a probe request through
+	 * @param clock source of the current time (ms)
+	 */
+	CircuitBreaker(int failureThreshold, long openDurationMs, LongSupplier clock) {
+		this.failureThreshold = Math.max(1, failureThreshold);
+		this.openDurationMs = Math.max(0L, openDurationMs);
+		this.clock = clock;
+	}
+
+	/**
+	 * Checks whether a request can be executed, moving the breaker to {@link State#HALF_OPEN} once the open duration has passed.
+	 * Requests which are not allowed are counted as short-circuited.
+	 *
+	 * @return {@code true} if the request can be executed, {@code false} if it has to be skipped
+	 */
+	public synchronized boolean allow() {
+		long now = this.clock.getAsLong();
+		if (this.state == State.OPEN && now - this.openedAt >= this.openDurationMs) {
+			this.state = State.HALF_OPEN;
+			this.probeInFlight = false;
+		}
+		if (this.probeInFlight && now - this.probeStartedAt >= this.openDurationMs) {
+			//	The probe outcome was never recorded, let another probe through
+			this.probeInFlight = false;
+		}
+		boolean allowed = this.state == State.CLOSED || (this.state == State.HALF_OPEN && !this.probeInFlight);
+		if (this.state == State.HALF_OPEN && allowed) {
+			this.probeInFlight = true;
+			this.probeStartedAt = now;
+		}
+		if (!allowed) {
+			this.shortCircuitedRequests.increment();
+		}
+		return allowed;
+	}
+
+	/**
+	 * Records a successful response, closing the breaker.
+	 */
+	public synchronized void recordSuccess() {
+		this.state = State.CLOSED;
+		this.consecutiveFailures = 0;
+		this.probeInFlight = false;
+	}
+
+	/**
+	 * Records a failed request, opening the breaker once {@link #failureThreshold} is reached or if the probe request failed.
+	 */
+	public synchronized void recordFailure() {
+		this.consecutiveFailures++;
+		if (this.state == State.HALF_OPEN || (this.state == State.CLOSED && this.consecutiveFailures >= this.failureThreshold)) {
+			this.state = State.OPEN;
+			this.openedAt = this.clock.getAsLong();
+			this.probeInFlight = false;
+		}
+	}
+
+	/**
+	 * Retrieves the current state of the breaker.
+	 *
+	 * @return current {@link State}
+	 */
+	public synchronized State getState() {
+		if (this.state == State.OPEN && this.clock.getAsLong() - this.openedAt >= this.openDurationMs) {
+			return State.HALF_OPEN;
+		}
+		return this.state;
+	}
+
+	/**
+	 * Retrieves the number of requests skipped by the breaker.
+	 *
+	 * @return number of short-circuited requests
+	 */
+	public long getShortCircuitedRequests() {
+		return this.shortCircuitedRequests.sum();
+	}
+}
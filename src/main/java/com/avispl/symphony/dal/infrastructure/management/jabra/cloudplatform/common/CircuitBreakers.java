@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.types.adapter.EndpointFamily;
+
+/**
+ * Set of {@link CircuitBreaker}, one per {@link EndpointFamily}, so a failing endpoint family is short-circuited
+ * while the healthy ones keep working.
+ * <p>
+ * Requests of the API are attributed to a family by their path. Requests whose URL is configurable, such as the settings valuespaces,
+ * are tagged with their family by the caller through {@link #execute(EndpointFamily, Callable)}.
+ * </p>
+ *
+ * @author Symphony Dev Team
+ * @since 1.2.0
+ */
+public class CircuitBreakers {
+	private final Map<EndpointFamily, CircuitBreaker> breakers = new EnumMap<>(EndpointFamily.class);
+	private final ThreadLocal<EndpointFamily> taggedFamily = new ThreadLocal<>();
+
+	public CircuitBreakers(int failureThreshold, long openDurationMs) {
+		for (EndpointFamily family : EndpointFamily.values()) {
+			this.breakers.put(family, new CircuitBreaker(failureThreshold, openDurationMs));
+		}
+	}
+
+	/**
+	 * Retrieves the circuit breaker of the endpoint family.
+	 *
+	 * @param family endpoint family
+	 * @return circuit breaker of the family
+	 */
+	public CircuitBreaker get(EndpointFamily family) {
+		return this.breakers.get(family);
+	}
+
+	/**
+	 * Checks whether a request of the endpoint family can be executed.
+	 *
+	 * @param family endpoint family
+	 * @return {@code true} if the request can be executed, {@code false} if it has to be skipped
+	 */
+	public boolean allow(EndpointFamily family) {
+		return this.breakers.get(family).allow();
+	}
+
+	/**
+	 * Executes a request tagged with the endpoint family, binding the family to the calling thread for the duration of the request,
+	 * so its outcome is recorded to the breaker of the family regardless of its URL.
+	 *
+	 * @param family endpoint family of the request
+	 * @param request request to execute
+	 * @param <T> type of the response
+	 * @return response of the request
+	 * @throws Exception if the request fails
+	 */
+	public <T> T execute(EndpointFamily family, Callable<T> request) throws Exception {
+		EndpointFamily previous = this.taggedFamily.get();
+		this.taggedFamily.set(family);
+		try {
+			return request.call();
+		} finally {
+			if (previous != null) {
+				this.taggedFamily.set(previous);
+			} else {
+				this.taggedFamily.remove();
+			}
+		}
+	}
+
+	/**
+	 * Retrieves the endpoint family of a request executed by the calling thread.
+	 *
+	 * @param path path of the request
+	 * @return the family the request is tagged with by {@link #execute(EndpointFamily, Callable)} if any,
+	 * otherwise the family defined by {@link EndpointFamily#fromPath(String)}
+	 */
+	public EndpointFamily getFamily(String path) {
+		EndpointFamily family = this.taggedFamily.get();
+		return family != null ? family : EndpointFamily.fromPath(path);
+	}
+
+	/**
+	 * Retrieves the total number of requests skipped by all the breakers.
+	 *
+	 * @return number of short-circuited requests
+	 */
+	public long getShortCircuitedRequests() {
+		return this.breakers.values().stream().mapToLong(CircuitBreaker::getShortCircuitedRequests).sum();
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Negative cache of keys whose lookups failed, so they are not retried until their entry expires.
+ * <p>
+ * The first failure of a key blocks it for the configured TTL, every consecutive failure doubles the blocking time,
+ * up to {@link #MAX_BACKOFF_EXPONENT} doublings. A successful lookup removes the entry of the key.
+ * </p>
+ *
+ * @param <K> type of the keys
+ * @author Symphony Dev Team
+ * @since 1.2.0
+ */
+public class NegativeCache<K> {
+	/**
+	 * Maximum number of TTL doublings of consecutively failing keys
+	 */
+	private static final int MAX_BACKOFF_EXPONENT = 5;
+
+	private final long ttlMs;
+	private final Map<K, Entry> entries = new ConcurrentHashMap<>();
+	private final LongAdder skippedLookups = new LongAdder();
+	private final LongSupplier clock;
+
+	public NegativeCache(long ttlMs) {
+		this(ttlMs, System::currentTimeMillis);
+	}
+
+	/**
+	 * @param ttlMs time (ms) a key is blocked for after its first failure
+	 * @param clock source of the current time (ms)
+	 */
+	NegativeCache(long ttlMs, LongSupplier clock) {
+		this.ttlMs = Math.max(0L, ttlMs);
+		this.clock = clock;
+	}
+
+	/**
+	 * Checks whether lookups of the key are blocked by a non-expired entry, counting the skipped lookup if so.
+	 *
+	 * @param key key to check
+	 * @return {@code true} if the key must not be looked up, {@code false} otherwise
+	 */
+	public boolean isBlocked(K key) {
+		Entry entry = this.entries.get(key);
+		if (entry == null || this.clock.getAsLong() >= entry.expiresAt()) {
+			return false;
+		}
+		this.skippedLookups.increment();
+		return true;
+	}
+
+	/**
+	 * Records a failed lookup of the key, blocking it for the TTL multiplied by the back-off of consecutive failures.
+	 *
+	 * @param key key of the failed lookup
+	 * @return time (ms) the key is blocked for
+	 */
+	public long recordFailure(K key) {
+		Entry entry = this.entries.compute(key, (k, previous) -> {
+			int failures = previous == null ? 1 : previous.failures() + 1;
+			long blockMs = this.ttlMs << Math.min(failures - 1, MAX_BACKOFF_EXPONENT);
+			return new Entry(failures, this.clock.getAsLong() + blockMs);
+		});
+		return Math.max(entry.expiresAt() - this.clock.getAsLong(), 0L);
+	}
+
+	/**
+	 * Records a successful lookup of the key, removing its entry.
+	 *
+	 * @param key key of the successful lookup
+	 */
+	public void recordSuccess(K key) {
+		this.entries.remove(key);
+	}
+
+	/**
+	 * Retrieves the number of keys with a non-expired entry.
+	 *
+	 * @return number of blocked keys
+	 */
+	public int getBlockedCount() {
+		long now = this.clock.getAsLong();
+		return (int) this.entries.values().stream().filter(entry -> now < entry.expiresAt()).count();
+	}
+
+	/**
+	 * Retrieves the number of lookups skipped because of a non-expired entry.
+	 *
+	 * @return number of skipped lookups
+	 */
+	public long getSkippedLookups() {
+		return this.skippedLookups.sum();
+	}
+
+	/**
+	 * Failure state of a key.
+	 *
+	 * @param failures number of consecutive failures
+	 * @param expiresAt timestamp (ms) the key is blocked until
+	 */
+	private record Entry(int failures, long expiresAt) {
+	}
+}
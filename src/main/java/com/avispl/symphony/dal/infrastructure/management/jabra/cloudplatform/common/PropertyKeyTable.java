@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.bases.BaseProperty;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common.constants.Constant;
+
+/**
+ * Immutable table of the property keys of a property enum within a group.
+ * <p>
+ * The enum constants and their (optionally grouped) keys are resolved once, when the table is created,
+ * so generating the properties of a device neither formats keys nor copies the enum constants again.
+ * </p>
+ *
+ * @param <T> the enum type that extends {@link BaseProperty}
+ * @author Symphony Dev Team
+ * @since 1.2.0
+ */
+public final class PropertyKeyTable<T extends Enum<T> & BaseProperty> {
+	private final String groupName;
+	private final T[] properties;
+	private final String[] keys;
+
+	private PropertyKeyTable(String groupName, T[] properties, String[] keys) {
+		this.groupName = groupName;
+		this.properties = properties;
+		this.keys = keys;
+	}
+
+	/**
+	 * Creates the key table of a property enum.
+	 *
+	 * @param enumClass the enum class
+	 * @param groupName group name prefixing each key, {@code null} for ungrouped keys
+	 * @param <T> the enum type that extends {@link BaseProperty}
+	 * @return the key table
+	 */
+	public static <T extends Enum<T> & BaseProperty> PropertyKeyTable<T> of(Class<T> enumClass, String groupName) {
+		T[] properties = enumClass.getEnumConstants();
+		String[] keys = new String[properties.length];
+		for (int i = 0; i < properties.length; i++) {
+			keys[i] = groupName == null ? properties[i].getName() : String.format(Constant.PROPERTY_FORMAT, groupName, properties[i].getName()).intern();
+		}
+		return new PropertyKeyTable<>(groupName, properties, keys);
+	}
+
+	/**
+	 * Generates a map of the property keys and their corresponding values.
+	 *
+	 * @param mapper function mapping each property to its value; {@link Constant#NOT_AVAILABLE} is used for {@code null} results
+	 * @return a map of the property keys and their values
+	 */
+	public Map<String, String> generate(Function<T, String> mapper) {
+		Map<String, String> result = new HashMap<>(keys.length * 4 / 3 + 1);
+		for (int i = 0; i < properties.length; i++) {
+			String value = mapper.apply(properties[i]);
+			result.put(keys[i], value != null ? value : Constant.NOT_AVAILABLE);
+		}
+		return result;
+	}
+
+	/**
+	 * Retrieves the group name prefixing the keys.
+	 *
+	 * @return the group name, {@code null} for ungrouped keys
+	 */
+	public String getGroupName() {
+		return groupName;
+	}
+
+	/**
+	 * Retrieves the key of a property.
+	 *
+	 * @param property the property
+	 * @return the (optionally grouped) key of the property
+	 */
+	public String getKey(T property) {
+		return keys[property.ordinal()];
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Executes outbound API requests asynchronously, with the number of requests in flight capped by a {@link Semaphore}.
+ * <p>
+ * In the platform mode, requests are processed by a fixed thread pool sized to the cap.
+ * In the virtual-thread mode, each request gets its own virtual thread, so blocking calls only park
+ * the virtual thread while waiting for a permit or for the response.
+ * Virtual threads require Java 21+, the platform mode is used as a fallback on older runtimes.
+ * </p>
+ *
+ * @author Symphony Dev Team
+ * @since 1.2.0
+ */
+public class RequestExecutor {
+	private static final Log LOGGER = LogFactory.getLog(RequestExecutor.class);
+
+	private final ExecutorService executorService;
+	private final Semaphore permits;
+	private final boolean virtualThreads;
+
+	public RequestExecutor(boolean virtualThreadsEnabled, int maxConcurrentRequests) {
+		int capacity = Math.max(1, maxConcurrentRequests);
+		ExecutorService virtualExecutorService = virtualThreadsEnabled ? createVirtualThreadExecutor() : null;
+
+		this.virtualThreads = virtualExecutorService != null;
+		this.executorService = this.virtualThreads ? virtualExecutorService : Executors.newFixedThreadPool(capacity);
+		this.permits = new Semaphore(capacity, true);
+	}
+
+	/**
+	 * Retrieves {@link #virtualThreads}
+	 *
+	 * @return value of {@link #virtualThreads}
+	 */
+	public boolean isVirtualThreads() {
+		return virtualThreads;
+	}
+
+	/**
+	 * Submits a request for asynchronous execution.
+	 *
+	 * @param request the request to execute
+	 * @param <T> the type of the request result
+	 * @return a {@link CompletableFuture} completed with the request result, or exceptionally if the request fails
+	 */
+	public <T> CompletableFuture<T> supplyAsync(Callable<T> request) {
+		return CompletableFuture.supplyAsync(() -> {
+			try {
+				this.permits.acquire();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new CompletionException(e);
+			}
+			try {
+				return request.call();
+			} catch (Exception e) {
+				throw new CompletionException(e);
+			} finally {
+				this.permits.release();
+			}
+		}, this.executorService);
+	}
+
+	/**
+	 * Submits a request without a result for asynchronous execution.
+	 *
+	 * @param request the request to execute
+	 * @return a {@link CompletableFuture} completed when the request is processed
+	 */
+	public CompletableFuture<Void> runAsync(Runnable request) {
+		return this.supplyAsync(() -> {
+			request.run();
+			return null;
+		});
+	}
+
+	/**
+	 * Stops the executor, interrupting requests in progress.
+	 */
+	public void shutdown() {
+		this.executorService.shutdownNow();
+	}
+
+	/**
+	 * Creates a virtual-thread-per-task executor, available since Java 21.
+	 * The factory method is resolved reflectively, since the adapter is compiled for Java 17.
+	 *
+	 * @return virtual-thread-per-task {@link ExecutorService}, or {@code null} if virtual threads are not supported
+	 */
+	private static ExecutorService createVirtualThreadExecutor() {
+		try {
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			LOGGER.warn("Virtual threads are not supported by the current Java runtime, falling back to a platform thread pool.");
+			return null;
+		}
+	}
+}
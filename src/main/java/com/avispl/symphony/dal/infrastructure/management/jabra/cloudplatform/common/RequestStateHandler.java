@@ -32,7 +32,12 @@ public class RequestStateHandler {
 		this.sentRequests.add(endpoint);
 	}
 
+	/**
+	 * Starts a new retrieval cycle: clears the sent requests, and drops the errors of the endpoints
+	 * not requested since the previous cycle started (e.g. endpoints of removed devices).
+	 */
 	public void clearRequests() {
+		this.apiErrors.keySet().retainAll(this.sentRequests);
 		this.sentRequests.clear();
 	}
 
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.IntervalSetting;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.types.adapter.RetrievalType;
+
+/**
+ * Runs the retrieval task of a single {@link RetrievalType} on its own cadence.
+ * <p>
+ * The task is executed whenever its {@link IntervalSetting} becomes valid, but at most once per minimum period
+ * (the monitoring cycle of the adapter), then the pipeline reschedules itself for the next availability. An in-flight guard makes sure a slow execution is never overlapped by the next one,
+ * and does not hold back pipelines of other retrieval types.
+ * While the pipeline is inactive, it is not rescheduled until {@link #schedule()} or {@link #setNextCollectionTime(long)} is called again.
+ * While the API is paused (e.g. after a 429 response), the execution is deferred without consuming the interval.
+ * </p>
+ *
+ * @author Symphony Dev Team
+ * @since 1.2.0
+ */
+public class RetrievalPipeline implements Runnable {
+	private final Log logger = LogFactory.getLog(this.getClass());
+	private final RetrievalType type;
+	private final IntervalSetting interval;
+	private final ScheduledExecutorService scheduler;
+	private final BooleanSupplier active;
+	private final LongSupplier minPeriod;
+	private final LongSupplier deferral;
+	private final Runnable task;
+	private final AtomicBoolean inFlight = new AtomicBoolean();
+
+	private ScheduledFuture<?> scheduledRun;
+	private volatile long nextCollectionTime;
+	private volatile long lastPublishedTimestamp;
+	private volatile long lastDuration;
+
+	/**
+	 * Creates a pipeline for the given retrieval type.
+	 *
+	 * @param type retrieval type handled by the pipeline
+	 * @param interval interval setting defining the cadence of the pipeline
+	 * @param scheduler scheduler to execute the pipeline on
+	 * @param active condition under which the pipeline is executed and rescheduled
+	 * @param minPeriod minimum time in milliseconds between the starts of two executions
+	 * @param deferral time in milliseconds the execution has to be deferred for, {@code 0} if the task can be executed now
+	 * @param task retrieval task, publishing its results once completed
+	 */
+	public RetrievalPipeline(RetrievalType type, IntervalSetting interval, ScheduledExecutorService scheduler, BooleanSupplier active,
+			LongSupplier minPeriod, LongSupplier deferral, Runnable task) {
+		this.type = type;
+		this.interval = interval;
+		this.scheduler = scheduler;
+		this.active = active;
+		this.minPeriod = minPeriod;
+		this.deferral = deferral;
+		this.task = task;
+	}
+
+	/**
+	 * Retrieves {@link #type}
+	 *
+	 * @return value of {@link #type}
+	 */
+	public RetrievalType getType() {
+		return type;
+	}
+
+	/**
+	 * Retrieves {@link #lastPublishedTimestamp}
+	 *
+	 * @return value of {@link #lastPublishedTimestamp}
+	 */
+	public long getLastPublishedTimestamp() {
+		return lastPublishedTimestamp;
+	}
+
+	/**
+	 * Retrieves {@link #lastDuration}
+	 *
+	 * @return value of {@link #lastDuration}
+	 */
+	public long getLastDuration() {
+		return lastDuration;
+	}
+
+	/**
+	 * Checks whether the retrieval task is being executed.
+	 *
+	 * @return {@code true} if the task is in flight, {@code false} otherwise
+	 */
+	public boolean isInFlight() {
+		return this.inFlight.get();
+	}
+
+	/**
+	 * Sets {@link #nextCollectionTime} value and reschedules the pending execution accordingly, waking the pipeline up
+	 * if the new time is already reached. Ignored while the task is in flight, since {@link #nextCollectionTime}
+	 * is set by the execution itself.
+	 *
+	 * @param nextCollectionTime new value of {@link #nextCollectionTime}
+	 */
+	public void setNextCollectionTime(long nextCollectionTime) {
+		if (this.inFlight.get()) {
+			return;
+		}
+		this.nextCollectionTime = nextCollectionTime;
+		this.schedule();
+	}
+
+	/**
+	 * Schedules the next execution at the next availability of {@link #interval}, not before {@link #nextCollectionTime},
+	 * replacing the pending one.
+	 * Nothing is scheduled while the task is in flight, since the pipeline reschedules itself once the task completes.
+	 */
+	public void schedule() {
+		this.schedule(this.getRemainingMs());
+	}
+
+	/**
+	 * Schedules the next execution after the given delay, replacing the pending one.
+	 *
+	 * @param delayMs delay in milliseconds
+	 */
+	private synchronized void schedule(long delayMs) {
+		if (this.inFlight.get() || this.scheduler.isShutdown()) {
+			return;
+		}
+		if (this.scheduledRun != null) {
+			this.scheduledRun.cancel(false);
+		}
+		try {
+			this.scheduledRun = this.scheduler.schedule(this, delayMs, TimeUnit.MILLISECONDS);
+		} catch (RejectedExecutionException e) {
+			this.logger.warn(String.format("Unable to schedule %s retrieval: the scheduler is shut down.", this.type));
+		}
+	}
+
+	/**
+	 * Retrieves the time remaining until both {@link #interval} is valid and {@link #nextCollectionTime} is reached.
+	 *
+	 * @return remaining time in milliseconds, {@code 0} if the task can be executed now
+	 */
+	private long getRemainingMs() {
+		return Math.max(this.interval.getRemainingMs(), Math.max(this.nextCollectionTime - System.currentTimeMillis(), 0L));
+	}
+
+	/**
+	 * Cancels the pending execution, interrupting the task if it is in flight.
+	 */
+	public synchronized void cancel() {
+		if (this.scheduledRun != null) {
+			this.scheduledRun.cancel(true);
+			this.scheduledRun = null;
+		}
+	}
+
+	/**
+	 * Executes the retrieval task if the pipeline is active, {@link #nextCollectionTime} is reached and {@link #interval} is valid,
+	 * then reschedules the pipeline.
+	 */
+	@Override
+	public void run() {
+		if (!this.active.getAsBoolean()) {
+			if (this.logger.isDebugEnabled()) {
+				this.logger.debug(String.format("%s retrieval is not active, the pipeline is suspended.", this.type));
+			}
+			return;
+		}
+		long deferralMs = this.deferral.getAsLong();
+		if (deferralMs > 0) {
+			if (this.logger.isDebugEnabled()) {
+				this.logger.debug(String.format("%s retrieval is deferred for %s ms: the API is paused.", this.type, deferralMs));
+			}
+			this.schedule(Math.max(deferralMs, this.getRemainingMs()));
+			return;
+		}
+		if (this.nextCollectionTime > System.currentTimeMillis()) {
+			this.schedule();
+			return;
+		}
+		if (!this.inFlight.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			if (this.interval.isValid()) {
+				this.logger.info(String.format("%s retrieval is available now. %s", this.type, this.interval.getNextAvailabilityInfo()));
+				long start = System.currentTimeMillis();
+				this.nextCollectionTime = start + this.minPeriod.getAsLong();
+				this.task.run();
+				this.lastDuration = Math.max(System.currentTimeMillis() - start, 1L);
+				this.lastPublishedTimestamp = System.currentTimeMillis();
+			}
+		} catch (Exception e) {
+			this.logger.error(String.format("Unable to complete %s retrieval.", this.type), e);
+		} finally {
+			this.inFlight.set(false);
+		}
+		if (this.active.getAsBoolean()) {
+			this.schedule();
+		}
+	}
+}
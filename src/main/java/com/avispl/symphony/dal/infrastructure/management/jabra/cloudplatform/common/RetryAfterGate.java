@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Host-wide "API paused until T" gate, driven by the Retry-After header of 429 responses.
+ * <p>
+ * A single 429 response pauses all outbound requests to the same host until the Retry-After deadline passes.
+ * Request threads park on the gate with {@link #awaitOpen(String)}, while background tasks can check
+ * {@link #getRemainingPauseMs(String)} and reschedule themselves instead of blocking a thread.
+ * </p>
+ *
+ * @author Symphony Dev Team
+ * @since 1.2.0
+ */
+public class RetryAfterGate {
+	private final Map<String, Long> pausedUntil = new ConcurrentHashMap<>();
+	private final LongAdder activations = new LongAdder();
+	private final LongAdder pausedTimeMs = new LongAdder();
+	private final LongAdder deferrals = new LongAdder();
+
+	/**
+	 * Pauses the requests to the host for the given duration.
+	 * If the host is already paused, the deadline is only extended, never shortened.
+	 *
+	 * @param host host to pause the requests to
+	 * @param pauseMs pause duration in milliseconds
+	 */
+	public void pause(String host, long pauseMs) {
+		long now = System.currentTimeMillis();
+		long deadline = now + Math.max(pauseMs, 0L);
+		this.pausedUntil.compute(host, (key, current) -> {
+			long currentDeadline = current == null ? 0L : current;
+			if (deadline <= currentDeadline) {
+				return current;
+			}
+			if (currentDeadline <= now) {
+				this.activations.increment();
+			}
+			this.pausedTimeMs.add(deadline - Math.max(now, currentDeadline));
+			return deadline;
+		});
+	}
+
+	/**
+	 * Retrieves the time remaining until the requests to the host are allowed again.
+	 *
+	 * @param host host to check
+	 * @return remaining pause in milliseconds, {@code 0} if the host is not paused
+	 */
+	public long getRemainingPauseMs(String host) {
+		if (host == null) {
+			return 0L;
+		}
+		Long deadline = this.pausedUntil.get(host);
+		return deadline == null ? 0L : Math.max(deadline - System.currentTimeMillis(), 0L);
+	}
+
+	/**
+	 * Parks the calling thread until the requests to the host are allowed again.
+	 *
+	 * @param host host to wait for
+	 * @throws InterruptedException if the thread is interrupted while waiting
+	 */
+	public void awaitOpen(String host) throws InterruptedException {
+		long remaining;
+		while ((remaining = this.getRemainingPauseMs(host)) > 0) {
+			TimeUnit.MILLISECONDS.sleep(remaining);
+		}
+	}
+
+	/**
+	 * Records a background task rescheduled because of a paused host.
+	 */
+	public void recordDeferral() {
+		this.deferrals.increment();
+	}
+
+	/**
+	 * Retrieves the number of times a host was paused.
+	 *
+	 * @return number of gate activations
+	 */
+	public long getActivations() {
+		return this.activations.sum();
+	}
+
+	/**
+	 * Retrieves the total time hosts were paused.
+	 *
+	 * @return total paused time in milliseconds
+	 */
+	public long getPausedTimeMs() {
+		return this.pausedTimeMs.sum();
+	}
+
+	/**
+	 * Retrieves the number of background tasks rescheduled because of a paused host.
+	 *
+	 * @return number of deferrals
+	 */
+	public long getDeferrals() {
+		return this.deferrals.sum();
+	}
+}
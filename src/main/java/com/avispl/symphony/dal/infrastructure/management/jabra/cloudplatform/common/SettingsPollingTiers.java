@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks how often the settings of each device change, and assigns devices to polling tiers accordingly.
+ * <p>
+ * Devices start in the hot tier, polled on every device settings sweep. A device whose settings did not change
+ * for {@link #STABLE_SWEEPS_THRESHOLD} consecutive sweeps is moved to the cold tier, polled on every
+ * {@link #coldTierMultiplier}-th sweep only. A device is promoted back to the hot tier when its settings change,
+ * when it comes back online, when its firmware version changes, or when a control is applied to it.
+ * </p>
+ *
+ * @author Symphony Dev Team
+ * @since 1.2.0
+ */
+public class SettingsPollingTiers {
+	/**
+	 * Number of consecutive sweeps without settings changes after which a device is moved to the cold tier
+	 */
+	private static final int STABLE_SWEEPS_THRESHOLD = 3;
+
+	private final Map<String, DeviceTier> deviceTiers = new ConcurrentHashMap<>();
+	private final int coldTierMultiplier;
+
+	public SettingsPollingTiers(int coldTierMultiplier) {
+		this.coldTierMultiplier = Math.max(1, coldTierMultiplier);
+	}
+
+	/**
+	 * Checks whether the settings of the device have to be polled during the current sweep.
+	 * The device is promoted to the hot tier first if it came back online or its firmware version changed since the last sweep.
+	 *
+	 * @param deviceId id of the device
+	 * @param firmwareVersion current firmware version of the device
+	 * @param online current online status of the device
+	 * @return {@code true} if the device settings have to be polled, {@code false} if the sweep can skip the device
+	 */
+	public boolean isDue(String deviceId, String firmwareVersion, boolean online) {
+		DeviceTier tier = this.deviceTiers.computeIfAbsent(deviceId, id -> new DeviceTier(firmwareVersion, online));
+		synchronized (tier) {
+			if ((online && !tier.online) || !Objects.equals(firmwareVersion, tier.firmwareVersion)) {
+				tier.promote();
+			}
+			tier.online = online;
+			tier.firmwareVersion = firmwareVersion;
+			if (!tier.cold || ++tier.skippedSweeps >= this.coldTierMultiplier) {
+				tier.skippedSweeps = 0;
+				return true;
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Records the result of a settings poll, moving the device between the tiers.
+	 *
+	 * @param deviceId id of the device
+	 * @param changed whether the polled settings differ from the previously known ones
+	 */
+	public void recordPoll(String deviceId, boolean changed) {
+		DeviceTier tier = this.deviceTiers.get(deviceId);
+		if (tier == null) {
+			return;
+		}
+		synchronized (tier) {
+			if (changed) {
+				tier.promote();
+			} else if (++tier.stableSweeps >= STABLE_SWEEPS_THRESHOLD) {
+				tier.cold = true;
+			}
+		}
+	}
+
+	/**
+	 * Promotes the device to the hot tier, so its settings are polled on the next sweep.
+	 *
+	 * @param deviceId id of the device
+	 */
+	public void promote(String deviceId) {
+		DeviceTier tier = this.deviceTiers.get(deviceId);
+		if (tier != null) {
+			synchronized (tier) {
+				tier.promote();
+			}
+		}
+	}
+
+	/**
+	 * Removes the devices which are not in the given set of ids.
+	 *
+	 * @param deviceIds ids of the current devices
+	 */
+	public void retain(Set<String> deviceIds) {
+		this.deviceTiers.keySet().retainAll(deviceIds);
+	}
+
+	/**
+	 * Counts the devices in the cold tier.
+	 *
+	 * @return number of devices in the cold tier
+	 */
+	public long getColdDevicesCount() {
+		return this.deviceTiers.values().stream().filter(tier -> tier.cold).count();
+	}
+
+	/**
+	 * Polling tier state of a single device.
+	 */
+	private static class DeviceTier {
+		private String firmwareVersion;
+		private boolean online;
+		private volatile boolean cold;
+		private int stableSweeps;
+		private int skippedSweeps;
+
+		private DeviceTier(String firmwareVersion, boolean online) {
+			this.firmwareVersion = firmwareVersion;
+			this.online = online;
+		}
+
+		/**
+		 * Moves the device to the hot tier.
+		 */
+		private void promote() {
+			this.cold = false;
+			this.stableSweeps = 0;
+			this.skippedSweeps = 0;
+		}
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache loader which coalesces concurrent loads of the same key into a single in-flight load.
+ * <p>
+ * The first caller missing the cache becomes the leader and executes the load, while concurrent callers of the same key
+ * wait for the result of the leader instead of loading it again. Loaded values are stored to the backing cache,
+ * {@code null} results are not cached.
+ * </p>
+ *
+ * @param <K> type of the keys
+ * @param <V> type of the values
+ * @author Symphony Dev Team
+ * @since 1.2.0
+ */
+public class SingleFlight<K, V> {
+	private final Map<K, V> cache;
+	private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder coalesced = new LongAdder();
+
+	public SingleFlight(Map<K, V> cache) {
+		this.cache = cache;
+	}
+
+	/**
+	 * Retrieves the cached value of the key, loading it if absent.
+	 *
+	 * @param key key of the value
+	 * @param loader loader of the value, executed by at most one caller at a time for the same key
+	 * @return the value, or {@code null} if the loader returned {@code null}
+	 * @throws Exception if the load failed
+	 */
+	public V get(K key, Callable<V> loader) throws Exception {
+		V value = this.cache.get(key);
+		if (value != null) {
+			this.hits.increment();
+			return value;
+		}
+		CompletableFuture<V> flight = new CompletableFuture<>();
+		CompletableFuture<V> existingFlight = this.inFlight.putIfAbsent(key, flight);
+		if (existingFlight != null) {
+			this.coalesced.increment();
+			return await(existingFlight);
+		}
+		try {
+			value = this.cache.get(key);
+			if (value == null) {
+				this.misses.increment();
+				value = loader.call();
+				if (value != null) {
+					this.cache.put(key, value);
+				}
+			} else {
+				this.hits.increment();
+			}
+			flight.complete(value);
+			return value;
+		} catch (Exception e) {
+			flight.completeExceptionally(e);
+			throw e;
+		} finally {
+			this.inFlight.remove(key, flight);
+		}
+	}
+
+	/**
+	 * Retrieves the number of values served from the cache.
+	 *
+	 * @return number of cache hits
+	 */
+	public long getHits() {
+		return this.hits.sum();
+	}
+
+	/**
+	 * Retrieves the number of values loaded because they were missing from the cache.
+	 *
+	 * @return number of cache misses
+	 */
+	public long getMisses() {
+		return this.misses.sum();
+	}
+
+	/**
+	 * Retrieves the number of callers which waited for an in-flight load instead of loading the value again.
+	 *
+	 * @return number of coalesced loads
+	 */
+	public long getCoalesced() {
+		return this.coalesced.sum();
+	}
+
+	/**
+	 * Waits for the result of an in-flight load.
+	 *
+	 * @param flight in-flight load
+	 * @return the loaded value
+	 * @throws Exception if the load failed or the thread was interrupted
+	 */
+	private V await(CompletableFuture<V> flight) throws Exception {
+		try {
+			return flight.get();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof Exception) {
+				throw (Exception) cause;
+			}
+			throw e;
+		}
+	}
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Token-bucket rate limiter shared by all outbound API requests.
+ * <p>
+ * The bucket holds up to {@link #burst} tokens and is refilled at {@link #permitsPerSecond} tokens per second.
+ * Each request takes a token, so short bursts are served immediately while the sustained rate never exceeds
+ * {@link #permitsPerSecond}. When the bucket is empty, the token is reserved ahead of time and the caller waits
+ * for its turn outside the lock, so waiting callers are served in the order of arrival.
+ * </p>
+ *
+ * @author Symphony Dev Team
+ * @since 1.2.0
+ */
+public class TokenBucketRateLimiter {
+	private final double permitsPerSecond;
+	private final double burst;
+	private final long nanosPerPermit;
+
+	private final LongAdder acquiredPermits = new LongAdder();
+	private final LongAdder throttledPermits = new LongAdder();
+	private final LongAdder totalWaitNanos = new LongAdder();
+	private final AtomicLong maxWaitNanos = new AtomicLong();
+
+	private double availableTokens;
+	private long lastRefillNanos;
+
+	public TokenBucketRateLimiter(double permitsPerSecond, int burst) {
+		this.permitsPerSecond = permitsPerSecond;
+		this.burst = Math.max(1, burst);
+		this.nanosPerPermit = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+		this.availableTokens = this.burst;
+		this.lastRefillNanos = System.nanoTime();
+	}
+
+	/**
+	 * Retrieves {@link #permitsPerSecond}
+	 *
+	 * @return value of {@link #permitsPerSecond}
+	 */
+	public double getPermitsPerSecond() {
+		return permitsPerSecond;
+	}
+
+	/**
+	 * Takes a token, waiting until one is available.
+	 *
+	 * @throws InterruptedException if the thread is interrupted while waiting
+	 */
+	public void acquire() throws InterruptedException {
+		long waitNanos = this.reserve();
+		this.acquiredPermits.increment();
+		if (waitNanos <= 0) {
+			return;
+		}
+		this.throttledPermits.increment();
+		this.totalWaitNanos.add(waitNanos);
+		this.maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+		TimeUnit.NANOSECONDS.sleep(waitNanos);
+	}
+
+	/**
+	 * Retrieves the number of requests that went through the limiter.
+	 *
+	 * @return number of acquired tokens
+	 */
+	public long getAcquiredPermits() {
+		return this.acquiredPermits.sum();
+	}
+
+	/**
+	 * Retrieves the number of requests that had to wait for a token.
+	 *
+	 * @return number of throttled requests
+	 */
+	public long getThrottledPermits() {
+		return this.throttledPermits.sum();
+	}
+
+	/**
+	 * Retrieves the total time requests spent waiting for a token.
+	 *
+	 * @return total wait time in milliseconds
+	 */
+	public long getTotalWaitMs() {
+		return TimeUnit.NANOSECONDS.toMillis(this.totalWaitNanos.sum());
+	}
+
+	/**
+	 * Retrieves the longest time a request spent waiting for a token.
+	 *
+	 * @return maximum wait time in milliseconds
+	 */
+	public long getMaxWaitMs() {
+		return TimeUnit.NANOSECONDS.toMillis(this.maxWaitNanos.get());
+	}
+
+	/**
+	 * Retrieves the average time a throttled request spent waiting for a token.
+	 *
+	 * @return average wait time in milliseconds, {@code 0} if no request was throttled
+	 */
+	public long getAverageWaitMs() {
+		long throttled = this.throttledPermits.sum();
+		return throttled == 0 ? 0L : this.getTotalWaitMs() / throttled;
+	}
+
+	/**
+	 * Refills the bucket and takes a token, reserving a future one if the bucket is empty.
+	 *
+	 * @return time to wait for the reserved token in nanoseconds, {@code 0} if a token is available now
+	 */
+	private synchronized long reserve() {
+		long now = System.nanoTime();
+		double refilled = (now - this.lastRefillNanos) / (double) this.nanosPerPermit;
+		this.availableTokens = Math.min(this.burst, this.availableTokens + refilled);
+		this.lastRefillNanos = now;
+
+		this.availableTokens -= 1;
+		if (this.availableTokens >= 0) {
+			return 0L;
+		}
+		return (long) (-this.availableTokens * this.nanosPerPermit);
+	}
+}
@@ -72,6 +72,7 @@ public class Util {
 			case ADAPTER_UPTIME_MIN:
 				return mapToUptimeMin(versionProperties.getProperty(property.getProperty()));
 			case LAST_MONITORING_CYCLE_DURATION:
+			case LAST_SETTINGS_CYCLE_DURATION:
 				return mapToMonitoringCycleDuration(versionProperties.getProperty(property.getProperty()));
 			default:
 				return mapToValue(versionProperties.getProperty(property.getProperty()));
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common;
+
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+
+/**
+ * Thread-safe map bounded by the total weight of its values, evicting the least recently used entries above the limit.
+ * <p>
+ * The weight of each value is computed once, when the value is stored. The most recently stored entry is never evicted,
+ * even if its weight alone exceeds the limit. Iteration returns a snapshot of the entries.
+ * </p>
+ *
+ * @param <K> type of the keys
+ * @param <V> type of the values
+ * @author Symphony Dev Team
+ * @since 1.2.0
+ */
+public class WeightedLruCache<K, V> extends AbstractMap<K, V> {
+	private final LinkedHashMap<K, V> entries = new LinkedHashMap<>(16, 0.75f, true);
+	private final Map<K, Long> weights = new HashMap<>();
+	private final ToLongFunction<V> weigher;
+	private long maxWeight;
+	private long weight;
+	private long evictions;
+
+	public WeightedLruCache(long maxWeight, ToLongFunction<V> weigher) {
+		this.maxWeight = Math.max(0L, maxWeight);
+		this.weigher = weigher;
+	}
+
+	@Override
+	public synchronized V get(Object key) {
+		return this.entries.get(key);
+	}
+
+	@Override
+	public synchronized boolean containsKey(Object key) {
+		return this.entries.containsKey(key);
+	}
+
+	@Override
+	public synchronized V put(K key, V value) {
+		V previous = this.entries.put(key, value);
+		long valueWeight = this.weigher.applyAsLong(value);
+		Long previousWeight = this.weights.put(key, valueWeight);
+		this.weight += valueWeight - (previousWeight == null ? 0L : previousWeight);
+		this.evict(key);
+		return previous;
+	}
+
+	@Override
+	public synchronized V remove(Object key) {
+		V previous = this.entries.remove(key);
+		Long previousWeight = this.weights.remove(key);
+		if (previousWeight != null) {
+			this.weight -= previousWeight;
+		}
+		return previous;
+	}
+
+	@Override
+	public synchronized int size() {
+		return this.entries.size();
+	}
+
+	@Override
+	public synchronized void clear() {
+		this.entries.clear();
+		this.weights.clear();
+		this.weight = 0L;
+	}
+
+	@Override
+	public synchronized Set<Entry<K, V>> entrySet() {
+		return new LinkedHashMap<>(this.entries).entrySet();
+	}
+
+	/**
+	 * Sets the weight limit, evicting the least recently used entries if the stored values exceed it.
+	 *
+	 * @param maxWeight new weight limit
+	 */
+	public synchronized void setMaxWeight(long maxWeight) {
+		this.maxWeight = Math.max(0L, maxWeight);
+		this.evict(null);
+	}
+
+	/**
+	 * Retrieves the total weight of the stored values.
+	 *
+	 * @return total weight
+	 */
+	public synchronized long getWeight() {
+		return this.weight;
+	}
+
+	/**
+	 * Retrieves the number of entries evicted because the weight limit was exceeded.
+	 *
+	 * @return number of evicted entries
+	 */
+	public synchronized long getEvictions() {
+		return this.evictions;
+	}
+
+	/**
+	 * Evicts the least recently used entries, except for the one just stored, while the weight limit is exceeded.
+	 *
+	 * @param storedKey key of the entry just stored, {@code null} to evict any entry
+	 */
+	private void evict(K storedKey) {
+		Iterator<K> iterator = this.entries.keySet().iterator();
+		while (this.weight > this.maxWeight && iterator.hasNext()) {
+			K eldest = iterator.next();
+			if (eldest.equals(storedKey)) {
+				continue;
+			}
+			iterator.remove();
+			this.weight -= this.weights.remove(eldest);
+			this.evictions++;
+		}
+	}
+}
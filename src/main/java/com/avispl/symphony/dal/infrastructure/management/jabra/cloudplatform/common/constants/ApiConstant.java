@@ -3,11 +3,12 @@
  */
 package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common.constants;
 
-import java.util.List;
 import java.util.Map;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import org.springframework.core.ParameterizedTypeReference;
 
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.ItemsPage;
 import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.device.Device;
 import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.settings.Settings;
 
@@ -30,6 +31,7 @@ public class ApiConstant {
 	public static final String CLIENT_TYPE_QUERY = "deviceClientType";
 	public static final String PAGE_SIZE_QUERY = "pageSize";
 	public static final String ITEMS_FIELD = "items";
+	public static final String CONTINUATION_TOKEN_FIELD = "continuationToken";
 	public static final String SETTINGS_FIELD = "settings";
 
 	//	API types
@@ -37,7 +39,7 @@ public class ApiConstant {
 	};
 	public static final TypeReference<Map<String, Map<String, Object>>> COMMON_SETTINGS_RES_TYPE = new TypeReference<Map<String, Map<String, Object>>>() {
 	};
-	public static final TypeReference<List<Device>> DEVICES_RES_TYPE = new TypeReference<List<Device>>() {
+	public static final ParameterizedTypeReference<ItemsPage<Device>> DEVICES_PAGE_TYPE = new ParameterizedTypeReference<ItemsPage<Device>>() {
 	};
 
 	//	API endpoints
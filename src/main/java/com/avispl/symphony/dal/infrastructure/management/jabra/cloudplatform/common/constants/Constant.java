@@ -45,6 +45,7 @@ public class Constant {
 	public static final String AGGREGATED_COMPUTER_GROUP = "Computer";
 	public static final String AGGREGATED_CLIENT_GROUP = "JabraClient";
 	public static final String AGGREGATED_SETTINGS_GROUP = "Settings";
+	public static final String ADAPTER_METRICS_GROUP = "AdapterMetrics";
 
 	// Categories
 	public static final String CATEGORY_GENERIC = "Generic";
@@ -81,6 +82,7 @@ public class Constant {
 
 	// Statuses
 	public static final String STATUS_DISCONNECTED = "Disconnected";
+	public static final String STATUS_OFFLINE = "Offline";
 	// Catalog category adjustments
 	public static final Map<String, String> PRODUCT_KEYWORD_TO_CATEGORY_MATCH = Map.ofEntries(
 			Map.entry("control", CATEGORY_TOUCH_SCREENS),
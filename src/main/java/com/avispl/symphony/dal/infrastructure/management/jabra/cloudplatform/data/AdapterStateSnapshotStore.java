@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.data;
+
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.AdapterStateSnapshot;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Stores {@link AdapterStateSnapshot} to a local JSON file, so the adapter can serve the last collected data right after a restart.
+ * <p>
+ * The file is written atomically through a temporary file in the same directory, so a crash during the write
+ * never leaves a partially written snapshot. Unreadable snapshots are reported as missing.
+ * </p>
+ *
+ * @author Symphony Dev Team
+ * @since 1.2.0
+ */
+public class AdapterStateSnapshotStore {
+    private final Log logger = LogFactory.getLog(this.getClass());
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            .setDefaultPropertyInclusion(JsonInclude.Include.NON_NULL);
+    private final Path file;
+
+    public AdapterStateSnapshotStore(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Reads the snapshot from the file.
+     *
+     * @return the snapshot, or {@code null} if the file is missing or cannot be read
+     */
+    public AdapterStateSnapshot read() {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(file.toFile(), AdapterStateSnapshot.class);
+        } catch (IOException | RuntimeException e) {
+            logger.warn(String.format("Unable to read adapter snapshot %s: %s", file, e.getMessage()));
+            return null;
+        }
+    }
+
+    /**
+     * Writes the snapshot to the file, replacing the previous one atomically.
+     *
+     * @param snapshot snapshot to store
+     */
+    public void write(AdapterStateSnapshot snapshot) {
+        Path tempFile = null;
+        try {
+            Path directory = file.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            tempFile = Files.createTempFile(directory, "snapshot", ".tmp");
+            objectMapper.writeValue(tempFile.toFile(), snapshot);
+            try {
+                Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warn(String.format("Unable to store adapter snapshot %s: %s", file, e.getMessage()));
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException ex) {
+                    logger.warn("Unable to delete temporary snapshot file " + tempFile + ": " + ex.getMessage());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.data;
+
+import com.avispl.symphony.api.common.error.NotModifiedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache of the validators (ETag / Last-Modified) and the parsed responses of GET requests, used to send conditional requests.
+ * <p>
+ * A request executed through {@link #fetch(String, Callable)} is bound to the calling thread, so the request interceptor
+ * can add the If-None-Match / If-Modified-Since headers of the cached entry with {@link #prepare(HttpRequest)},
+ * and capture the validators and the body size of a fresh response with {@link #capture(ClientHttpResponse)}.
+ * A 304 (Not Modified) response is answered with the previously parsed value, without reading or parsing any body.
+ * </p>
+ *
+ * @author Symphony Dev Team
+ * @since 1.2.0
+ */
+public class ConditionalGetCache {
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ThreadLocal<Exchange> currentExchange = new ThreadLocal<>();
+    private final LongAdder conditionalRequests = new LongAdder();
+    private final LongAdder notModifiedResponses = new LongAdder();
+    private final LongAdder bytesSaved = new LongAdder();
+
+    /**
+     * Executes a GET request as a conditional request of the key.
+     *
+     * @param key key of the request, usually its endpoint
+     * @param request request to execute, throwing {@link NotModifiedException} on a 304 response
+     * @param <T> type of the parsed response
+     * @return the parsed response, or the previously parsed one if the response was not modified
+     * @throws Exception if the request fails
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T fetch(String key, Callable<T> request) throws Exception {
+        Entry cached = entries.get(key);
+        Exchange exchange = new Exchange(cached);
+        currentExchange.set(exchange);
+        try {
+            T value = request.call();
+            if (value != null && (exchange.eTag != null || exchange.lastModified != null)) {
+                entries.put(key, new Entry(exchange.eTag, exchange.lastModified, exchange.bodyBytes, value));
+            } else {
+                entries.remove(key);
+            }
+            return value;
+        } catch (NotModifiedException e) {
+            if (cached == null) {
+                throw e;
+            }
+            notModifiedResponses.increment();
+            bytesSaved.add(cached.bodyBytes());
+            return (T) cached.value();
+        } finally {
+            currentExchange.remove();
+        }
+    }
+
+    /**
+     * Adds the validators of the cached entry to the request bound to the calling thread, if any.
+     *
+     * @param request request to prepare
+     */
+    public void prepare(HttpRequest request) {
+        Exchange exchange = currentExchange.get();
+        if (exchange == null || exchange.cached == null) {
+            return;
+        }
+        HttpHeaders headers = request.getHeaders();
+        if (exchange.cached.eTag() != null) {
+            headers.set(HttpHeaders.IF_NONE_MATCH, exchange.cached.eTag());
+        }
+        if (exchange.cached.lastModified() != null) {
+            headers.set(HttpHeaders.IF_MODIFIED_SINCE, exchange.cached.lastModified());
+        }
+        conditionalRequests.increment();
+    }
+
+    /**
+     * Captures the validators of a successful response to the request bound to the calling thread, if any,
+     * wrapping the response to count the size of its body.
+     *
+     * @param response response to capture
+     * @return the response to process further
+     * @throws IOException if the response status cannot be read
+     */
+    public ClientHttpResponse capture(ClientHttpResponse response) throws IOException {
+        Exchange exchange = currentExchange.get();
+        if (exchange == null || response.getStatusCode() != HttpStatus.OK) {
+            return response;
+        }
+        HttpHeaders headers = response.getHeaders();
+        exchange.eTag = headers.getETag();
+        exchange.lastModified = headers.getFirst(HttpHeaders.LAST_MODIFIED);
+        return new CountingResponse(response, exchange);
+    }
+
+    /**
+     * Removes the entries whose keys are not in the given keys.
+     *
+     * @param keys keys to keep
+     */
+    public void retain(Collection<String> keys) {
+        entries.keySet().retainAll(keys);
+    }
+
+    /**
+     * Removes all the entries.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Retrieves the number of requests sent with validators.
+     *
+     * @return number of conditional requests
+     */
+    public long getConditionalRequests() {
+        return conditionalRequests.sum();
+    }
+
+    /**
+     * Retrieves the number of conditional requests answered with 304 (Not Modified).
+     *
+     * @return number of not modified responses
+     */
+    public long getNotModifiedResponses() {
+        return notModifiedResponses.sum();
+    }
+
+    /**
+     * Retrieves the share of the conditional requests answered with 304 (Not Modified).
+     *
+     * @return percentage of not modified responses, {@code 0} if no conditional request was sent
+     */
+    public long getNotModifiedRate() {
+        long requests = conditionalRequests.sum();
+        return requests > 0 ? notModifiedResponses.sum() * 100 / requests : 0L;
+    }
+
+    /**
+     * Retrieves the total size of the response bodies not downloaded thanks to 304 (Not Modified) responses.
+     *
+     * @return saved bytes
+     */
+    public long getBytesSaved() {
+        return bytesSaved.sum();
+    }
+
+    /**
+     * Cached validators and parsed value of a response.
+     *
+     * @param eTag ETag of the response, {@code null} if missing
+     * @param lastModified Last-Modified of the response, {@code null} if missing
+     * @param bodyBytes size of the response body
+     * @param value parsed response
+     */
+    private record Entry(String eTag, String lastModified, long bodyBytes, Object value) {
+    }
+
+    /**
+     * State of the request in progress on the calling thread.
+     */
+    private static final class Exchange {
+        private final Entry cached;
+        private String eTag;
+        private String lastModified;
+        private long bodyBytes;
+
+        private Exchange(Entry cached) {
+            this.cached = cached;
+        }
+    }
+
+    /**
+     * Response wrapper counting the bytes read from the body to the exchange.
+     */
+    private static final class CountingResponse implements ClientHttpResponse {
+        private final ClientHttpResponse delegate;
+        private final Exchange exchange;
+
+        private CountingResponse(ClientHttpResponse delegate, Exchange exchange) {
+            this.delegate = delegate;
+            this.exchange = exchange;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return new FilterInputStream(delegate.getBody()) {
+                @Override
+                public int read() throws IOException {
+                    int value = super.read();
+                    if (value >= 0) {
+                        exchange.bodyBytes++;
+                    }
+                    return value;
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    int count = super.read(buffer, offset, length);
+                    if (count > 0) {
+                        exchange.bodyBytes += count;
+                    }
+                    return count;
+                }
+            };
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.data;
+
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.settings.valuespace.SettingDescriptor;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.settings.valuespace.SettingsValuespace;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Intern pool of the {@link SettingsValuespace} parts, so that valuespaces of different feature models and firmware versions
+ * share a single instance of each distinct setting name, dropdown options list and {@link SettingDescriptor}.
+ * <p>
+ * The pool holds its instances weakly, so the instances are released once no valuespace refers to them anymore.
+ * Interned option lists are unmodifiable, and interned descriptors of equal value are the same instance,
+ * so they can be compared by identity.
+ * </p>
+ *
+ * @author Symphony Dev Team
+ * @since 1.2.0
+ */
+public class DescriptorInterner {
+    private final Map<Object, WeakReference<Object>> pool = new WeakHashMap<>();
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * Retrieves the interned instance of the setting name.
+     *
+     * @param name setting name to intern
+     * @return interned setting name, or {@code null} if the name is {@code null}
+     */
+    public String intern(String name) {
+        return canonicalize(name);
+    }
+
+    /**
+     * Retrieves the interned instance of the descriptor, interning its dropdown options first.
+     *
+     * @param descriptor descriptor to intern
+     * @return interned descriptor, or {@code null} if the descriptor is {@code null}
+     */
+    public SettingDescriptor intern(SettingDescriptor descriptor) {
+        if (descriptor == null) {
+            return null;
+        }
+        Object valuespace = descriptor.valuespace();
+        if (valuespace instanceof SettingDescriptor.DropdownValuespace dropdown && dropdown.options() != null) {
+            List<String> options = new ArrayList<>(dropdown.options().size());
+            dropdown.options().forEach(option -> options.add(canonicalize(option)));
+            valuespace = new SettingDescriptor.DropdownValuespace(dropdown.requiresRestart(), canonicalize(Collections.unmodifiableList(options)));
+        }
+        return canonicalize(new SettingDescriptor(canonicalize(valuespace)));
+    }
+
+    /**
+     * Retrieves the number of distinct instances currently held by the pool.
+     *
+     * @return pool size
+     */
+    public synchronized int size() {
+        return pool.size();
+    }
+
+    /**
+     * Retrieves the number of values replaced by an instance already held by the pool.
+     *
+     * @return number of pool hits
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Retrieves the pooled instance equal to the value, pooling the value if there is none.
+     *
+     * @param value value to canonicalize
+     * @param <T> type of the value
+     * @return pooled instance, or {@code null} if the value is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    private synchronized <T> T canonicalize(T value) {
+        if (value == null) {
+            return null;
+        }
+        WeakReference<Object> reference = pool.get(value);
+        Object pooled = reference != null ? reference.get() : null;
+        if (pooled != null) {
+            hits.increment();
+            return (T) pooled;
+        }
+        pool.put(value, new WeakReference<>(value));
+        return value;
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.data;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.device.Device;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.rooms.DeviceOverview;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.rooms.Room;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.rooms.RoomsSnapshot;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keyed index of the fleet: devices by ID, rooms by device group ID, room device overviews by device ID,
+ * and aggregated devices by device ID.
+ * <p>
+ * The index is maintained by the code publishing the data: devices are indexed as their pages are merged,
+ * rooms are indexed when a {@link RoomsSnapshot} is published, and aggregated devices when they are built.
+ * Lookups are constant time, so reconciling the whole fleet is linear in its size.
+ * </p>
+ *
+ * @author Symphony Dev Team
+ * @since 1.2.0
+ */
+public class FleetIndex {
+    private final Map<String, Device> devices = new ConcurrentHashMap<>();
+    private final Map<String, AggregatedDevice> aggregatedDevices = new ConcurrentHashMap<>();
+    private volatile RoomsIndex rooms = RoomsIndex.EMPTY;
+
+    /**
+     * Indexes a device, replacing the device with the same ID.
+     *
+     * @param device device to index, ignored if it has no ID
+     * @return the replaced device, {@code null} if the device was not indexed yet or has no ID
+     */
+    public Device putDevice(Device device) {
+        if (device == null || device.getId() == null) {
+            return null;
+        }
+        return devices.put(device.getId(), device);
+    }
+
+    /**
+     * Indexes devices, replacing the devices with the same IDs.
+     *
+     * @param devicesToIndex devices to index
+     */
+    public void putDevices(Collection<Device> devicesToIndex) {
+        devicesToIndex.forEach(this::putDevice);
+    }
+
+    /**
+     * Removes the devices whose IDs are not in the given IDs.
+     *
+     * @param deviceIds IDs of the devices to keep
+     * @return {@code true} if any device was removed
+     */
+    public boolean retainDevices(Collection<String> deviceIds) {
+        return devices.keySet().retainAll(deviceIds);
+    }
+
+    /**
+     * Indexes the rooms and the room device overviews of a published rooms snapshot, replacing the previously indexed ones.
+     * Rooms sharing a device group ID, and overviews sharing a device ID, keep their first occurrence.
+     *
+     * @param snapshot published rooms snapshot
+     */
+    public void indexRooms(RoomsSnapshot snapshot) {
+        Map<String, Room> roomsByGroupId = new HashMap<>();
+        Map<String, DeviceOverview> deviceOverviewsById = new HashMap<>();
+        for (Room room : Optional.ofNullable(snapshot.rooms()).orElse(Collections.emptyList())) {
+            if (room.getGroupId() != null) {
+                roomsByGroupId.putIfAbsent(room.getGroupId(), room);
+            }
+        }
+        for (DeviceOverview deviceOverview : Optional.ofNullable(snapshot.devicesRooms()).orElse(Collections.emptyList())) {
+            if (deviceOverview.getId() != null) {
+                deviceOverviewsById.putIfAbsent(deviceOverview.getId(), deviceOverview);
+            }
+        }
+        rooms = new RoomsIndex(roomsByGroupId, deviceOverviewsById);
+    }
+
+    /**
+     * Retrieves the room of a device group.
+     *
+     * @param groupId device group ID
+     * @return the room, {@code null} if none is indexed for the group
+     */
+    public Room getRoom(String groupId) {
+        return groupId != null ? rooms.roomsByGroupId().get(groupId) : null;
+    }
+
+    /**
+     * Retrieves the room device overview of a device.
+     *
+     * @param deviceId device ID
+     * @return the device overview, {@code null} if the device is not a member of an indexed room
+     */
+    public DeviceOverview getDeviceOverview(String deviceId) {
+        return deviceId != null ? rooms.deviceOverviewsById().get(deviceId) : null;
+    }
+
+    /**
+     * Checks whether a device is a member of an indexed room.
+     *
+     * @param deviceId device ID
+     * @return {@code true} if the device is a member of a room, {@code false} otherwise
+     */
+    public boolean isDeviceInRoom(String deviceId) {
+        return getDeviceOverview(deviceId) != null;
+    }
+
+    /**
+     * Indexes an aggregated device, replacing the aggregated device with the same ID.
+     *
+     * @param aggregatedDevice aggregated device to index, ignored if it has no ID
+     */
+    public void putAggregatedDevice(AggregatedDevice aggregatedDevice) {
+        if (aggregatedDevice != null && aggregatedDevice.getDeviceId() != null) {
+            aggregatedDevices.put(aggregatedDevice.getDeviceId(), aggregatedDevice);
+        }
+    }
+
+    /**
+     * Retrieves the aggregated device of a device.
+     *
+     * @param deviceId device ID
+     * @return the aggregated device, {@code null} if none is indexed for the device
+     */
+    public AggregatedDevice getAggregatedDevice(String deviceId) {
+        return deviceId != null ? aggregatedDevices.get(deviceId) : null;
+    }
+
+    /**
+     * Removes the aggregated devices whose IDs are not in the given IDs.
+     *
+     * @param deviceIds IDs of the aggregated devices to keep
+     */
+    public void retainAggregatedDevices(Collection<String> deviceIds) {
+        aggregatedDevices.keySet().retainAll(deviceIds);
+    }
+
+    /**
+     * Removes all the indexed data.
+     */
+    public void clear() {
+        devices.clear();
+        aggregatedDevices.clear();
+        rooms = RoomsIndex.EMPTY;
+    }
+
+    /**
+     * Rooms and room device overviews of a rooms snapshot, replaced as a whole when a snapshot is published.
+     *
+     * @param roomsByGroupId rooms by device group ID
+     * @param deviceOverviewsById room device overviews by device ID
+     */
+    private record RoomsIndex(Map<String, Room> roomsByGroupId, Map<String, DeviceOverview> deviceOverviewsById) {
+        private static final RoomsIndex EMPTY = new RoomsIndex(Collections.emptyMap(), Collections.emptyMap());
+    }
+}
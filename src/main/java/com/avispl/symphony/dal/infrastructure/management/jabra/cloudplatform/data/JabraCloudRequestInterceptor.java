@@ -3,6 +3,10 @@
  */
 package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.data;
 
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common.CircuitBreakers;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common.RetryAfterGate;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common.TokenBucketRateLimiter;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.types.adapter.EndpointFamily;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.http.HttpMethod;
@@ -14,47 +18,176 @@ import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.util.StreamUtils;
 
 import java.io.IOException;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Interceptor for RestTemplate that checks for the response headers, important for proper handling of 429 responses.
+ * A 429 response pauses all requests to the same host via the shared {@link RetryAfterGate} until the Retry-After deadline:
+ * GET requests park on the gate, while PATCH/POST requests fail fast.
+ * When a {@link TokenBucketRateLimiter} is set, every request (including the retry) waits for a token before execution.
+ * When {@link CircuitBreakers} are set, the outcome of each polling request is recorded to the breaker of its {@link EndpointFamily}:
+ * 5xx responses and I/O errors are failures, other responses except 429 are successes.
+ * GET requests executed through the {@link ConditionalGetCache} are sent with the validators of their cached response.
  *
  * @author Maksym.Rossiytsev
  * @since 1.0.0
  */
 public class JabraCloudRequestInterceptor implements ClientHttpRequestInterceptor {
     private final Log logger = LogFactory.getLog(this.getClass());
+    private final RetryAfterGate retryAfterGate = new RetryAfterGate();
+    private final ConditionalGetCache conditionalGetCache = new ConditionalGetCache();
+    private volatile TokenBucketRateLimiter rateLimiter;
+    private volatile CircuitBreakers circuitBreakers;
+
+    /**
+     * Retrieves {@link #retryAfterGate}
+     *
+     * @return value of {@link #retryAfterGate}
+     */
+    public RetryAfterGate getRetryAfterGate() {
+        return retryAfterGate;
+    }
+
+    /**
+     * Retrieves {@link #conditionalGetCache}
+     *
+     * @return value of {@link #conditionalGetCache}
+     */
+    public ConditionalGetCache getConditionalGetCache() {
+        return conditionalGetCache;
+    }
+
+    /**
+     * Sets {@link #rateLimiter} value
+     *
+     * @param rateLimiter new value of {@link #rateLimiter}, {@code null} to disable rate limiting
+     */
+    public void setRateLimiter(TokenBucketRateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    /**
+     * Sets {@link #circuitBreakers} value
+     *
+     * @param circuitBreakers new value of {@link #circuitBreakers}, {@code null} to disable outcome recording
+     */
+    public void setCircuitBreakers(CircuitBreakers circuitBreakers) {
+        this.circuitBreakers = circuitBreakers;
+    }
 
     @Override
     public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
-        ClientHttpResponse response = execution.execute(request, body);
+        String host = request.getURI().getHost();
+        boolean isControl = request.getMethod() == HttpMethod.PATCH || request.getMethod() == HttpMethod.POST;
+        long remainingPauseMs = retryAfterGate.getRemainingPauseMs(host);
+        if (isControl && remainingPauseMs > 0) {
+            throw new RuntimeException(String.format("Unable to execute the request: Too many requests. Please try again in %ss.",
+                    TimeUnit.MILLISECONDS.toSeconds(remainingPauseMs) + 1));
+        }
+        awaitGate(host);
+        if (request.getMethod() == HttpMethod.GET) {
+            conditionalGetCache.prepare(request);
+        }
+
+        ClientHttpResponse response = executeRateLimited(request, body, execution);
         if (response.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS) {
             String retryAfterHeader = response.getHeaders().getFirst("Retry-After");
-            long sleepMillis = 1_000L;
-            if (retryAfterHeader != null) {
-                try {
-                    long seconds = Long.parseLong(retryAfterHeader.trim());
-                    sleepMillis = Math.min(seconds * 1_000L, 60_000L);
-                } catch (NumberFormatException ignored) {
-                    logger.error("Retry-After header has invalid value: " + retryAfterHeader);
-                }
-            }
+            retryAfterGate.pause(host, parseRetryAfter(retryAfterHeader));
             // Drain the response body BEFORE closing. Pooled HTTP clients (e.g. Apache HttpClient
             // used by the parent container) only return a connection to the pool once its body is
             // fully consumed. Closing without draining leaves the connection marked "in use",
             // exhausting the pool and causing the retry execute() call to block indefinitely.
             drainAndClose(response);
 
-            if (request.getMethod() == HttpMethod.PATCH || request.getMethod() == HttpMethod.POST) {
+            if (isControl) {
                 throw new RuntimeException(String.format("Unable to execute the request: Too many requests. Please try again in %ss.", retryAfterHeader));
             }
+            awaitGate(host);
+            response = executeRateLimited(request, body, execution);
+            if (response.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS) {
+                retryAfterGate.pause(host, parseRetryAfter(response.getHeaders().getFirst("Retry-After")));
+            }
+        }
+        return request.getMethod() == HttpMethod.GET ? conditionalGetCache.capture(response) : response;
+    }
+
+    /**
+     * Parks the calling thread on the {@link #retryAfterGate} until the requests to the host are allowed again.
+     *
+     * @param host host of the request
+     * @throws IOException if the thread is interrupted while waiting
+     */
+    private void awaitGate(String host) throws IOException {
+        try {
+            retryAfterGate.awaitOpen(host);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("API retry call interrupted.", e);
+        }
+    }
+
+    /**
+     * Parses the Retry-After header value, either delay-seconds or an HTTP-date.
+     *
+     * @param retryAfterHeader Retry-After header value
+     * @return pause duration in milliseconds, capped at 60 seconds, 1 second if the header is missing or invalid
+     */
+    private long parseRetryAfter(String retryAfterHeader) {
+        long pauseMillis = 1_000L;
+        if (retryAfterHeader != null) {
+            try {
+                long seconds = Long.parseLong(retryAfterHeader.trim());
+                pauseMillis = Math.min(seconds * 1_000L, 60_000L);
+            } catch (NumberFormatException ignored) {
+                try {
+                    long deadline = ZonedDateTime.parse(retryAfterHeader.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+                    pauseMillis = Math.min(Math.max(deadline - System.currentTimeMillis(), 0L), 60_000L);
+                } catch (DateTimeParseException e) {
+                    logger.error("Retry-After header has invalid value: " + retryAfterHeader);
+                }
+            }
+        }
+        return pauseMillis;
+    }
+
+    /**
+     * Executes the request once a token of the {@link #rateLimiter} is available.
+     *
+     * @param request request to execute
+     * @param body request body
+     * @param execution request execution to proceed with
+     * @return response of the request
+     * @throws IOException if the request fails or the thread is interrupted while waiting for a token
+     */
+    private ClientHttpResponse executeRateLimited(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        TokenBucketRateLimiter limiter = this.rateLimiter;
+        if (limiter != null) {
             try {
-                TimeUnit.MILLISECONDS.sleep(sleepMillis);
+                limiter.acquire();
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
-                throw new IOException("API retry call interrupted.", e);
+                throw new IOException("API call interrupted while waiting for the rate limiter.", e);
             }
+        }
+        CircuitBreakers breakers = this.circuitBreakers;
+        EndpointFamily family = breakers != null && request.getMethod() == HttpMethod.GET ? breakers.getFamily(request.getURI().getPath()) : null;
+        if (family == null) {
+            return execution.execute(request, body);
+        }
+        ClientHttpResponse response;
+        try {
             response = execution.execute(request, body);
+        } catch (IOException e) {
+            breakers.get(family).recordFailure();
+            throw e;
+        }
+        if (response.getStatusCode().is5xxServerError()) {
+            breakers.get(family).recordFailure();
+        } else if (response.getStatusCode() != HttpStatus.TOO_MANY_REQUESTS) {
+            breakers.get(family).recordSuccess();
         }
         return response;
     }
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.data;
+
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common.constants.ApiConstant;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.ItemsPage;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.GenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Process json response of Jabra+ paginated lists to {@link ItemsPage}, in a single streaming pass.
+ * <p>
+ * Elements of the {@link ApiConstant#ITEMS_FIELD} array are bound one by one to the item type of the requested {@link ItemsPage},
+ * and the {@link ApiConstant#CONTINUATION_TOKEN_FIELD} is picked up in the same pass, so the body is never buffered
+ * or parsed to an intermediate tree. Other fields are skipped.
+ * </p>
+ *
+ * @author Symphony Dev Team
+ * @since 1.2.0
+ */
+public class JabraItemsPageHttpMessageConverter implements GenericHttpMessageConverter<ItemsPage<?>> {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private static final List<MediaType> SUPPORTED_MEDIA_TYPES = List.of(
+            MediaType.APPLICATION_JSON,
+            new MediaType("application", "json", StandardCharsets.UTF_8)
+    );
+
+    // ── GenericHttpMessageConverter (parameterized type) ──────────────
+
+    @Override
+    public boolean canRead(Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+        return isItemsPage(type) && isJsonCompatible(mediaType);
+    }
+
+    @Override
+    public ItemsPage<?> read(Type type, @Nullable Class<?> contextClass,
+                             HttpInputMessage inputMessage) throws IOException {
+        JavaType itemType = objectMapper.getTypeFactory().constructType(((ParameterizedType) type).getActualTypeArguments()[0]);
+        return parsePage(inputMessage, itemType);
+    }
+
+    @Override
+    public boolean canWrite(@Nullable Type type, Class<?> clazz, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public void write(ItemsPage<?> page, @Nullable Type type, @Nullable MediaType contentType,
+                      HttpOutputMessage outputMessage) throws IOException {
+    }
+
+    // ── HttpMessageConverter (raw class) ─────────────────────────────
+
+    @Override
+    public boolean canRead(Class<?> clazz, @Nullable MediaType mediaType) {
+        return false; // defer to the Type-aware overload
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public void write(ItemsPage<?> page, @Nullable MediaType contentType,
+                      HttpOutputMessage outputMessage) throws IOException {
+    }
+
+    @Override
+    public List<MediaType> getSupportedMediaTypes() {
+        return SUPPORTED_MEDIA_TYPES;
+    }
+
+    @Override
+    public ItemsPage<?> read(Class<? extends ItemsPage<?>> clazz, HttpInputMessage inputMessage) throws IOException, HttpMessageNotReadableException {
+        throw new HttpMessageNotReadableException("Item type of the page is required", inputMessage);
+    }
+
+    // ── Parsing logic ────────────────────────────────────────────────
+    private ItemsPage<?> parsePage(HttpInputMessage inputMessage, JavaType itemType) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(inputMessage.getBody())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new HttpMessageNotReadableException("Expected an object at the root", inputMessage);
+            }
+            List<Object> items = new ArrayList<>();
+            String continuationToken = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                JsonToken valueToken = parser.nextToken();
+                if (ApiConstant.ITEMS_FIELD.equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        items.add(objectMapper.readValue(parser, itemType));
+                    }
+                } else if (ApiConstant.CONTINUATION_TOKEN_FIELD.equals(fieldName)) {
+                    continuationToken = valueToken == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return new ItemsPage<>(items, continuationToken);
+        }
+    }
+
+    // ── Helpers ──────────────────────────────────────────────────────
+
+    private boolean isItemsPage(Type type) {
+        return type instanceof ParameterizedType pt && pt.getRawType() == ItemsPage.class;
+    }
+
+    private boolean isJsonCompatible(@Nullable MediaType mediaType) {
+        return mediaType == null || mediaType.isCompatibleWith(MediaType.APPLICATION_JSON);
+    }
+}
@@ -5,7 +5,9 @@ package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.da
 
 import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.settings.Setting;
 import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.settings.SettingType;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common.constants.ApiConstant;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.http.HttpInputMessage;
 import org.springframework.http.HttpOutputMessage;
@@ -19,18 +21,21 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 
 /**
- * Process json response of Jabra+ settings to {@link List} of {@link Setting}
+ * Process json response of Jabra+ settings to {@link List} of {@link Setting}.
+ * The settings object is read in a single streaming pass, without building an intermediate tree.
  *
  * @since 1.1.1
  * @author Maksym.Rossiitsev/AVISPL Team
  * */
 public class JabraSettingsHttpMessageConverter implements GenericHttpMessageConverter<List<Setting>> {
     private final ObjectMapper objectMapper = new ObjectMapper();
+    /**
+     * Fields classifying a setting, by decreasing priority: a later field of the list is ignored once an earlier one was read
+     */
+    private static final List<String> CLASSIFYING_FIELDS = List.of("isOn", "selected", "value");
     private static final List<MediaType> SUPPORTED_MEDIA_TYPES = List.of(
             MediaType.APPLICATION_JSON,
             new MediaType("application", "json", StandardCharsets.UTF_8)
@@ -91,46 +96,105 @@ public class JabraSettingsHttpMessageConverter implements GenericHttpMessageConv
     // ── Parsing logic ────────────────────────────────────────────────
 
     private List<Setting> parseSettings(HttpInputMessage inputMessage) throws IOException {
-        JsonNode root = objectMapper.readTree(inputMessage.getBody());
-        JsonNode settingsNode = root.get("settings");
-
-        if (settingsNode == null || !settingsNode.isObject()) {
-            throw new HttpMessageNotReadableException(
-                    "Expected a 'settings' object at the root", inputMessage);
-        }
-
-        List<Setting> settings = new ArrayList<>();
-
-        Iterator<Map.Entry<String, JsonNode>> fields = settingsNode.fields();
-        while (fields.hasNext()) {
-            Map.Entry<String, JsonNode> entry = fields.next();
-            String name = entry.getKey();
-            JsonNode props = entry.getValue();
-
-            Setting setting = new Setting();
-            setting.setName(name);
-
-            if (props.has("isOn")) {
-                setting.setType(SettingType.TOGGLE);
-                setting.setValue(props.get("isOn").asBoolean());
-            } else if (props.has("selected")) {
-                setting.setType(SettingType.DROPDOWN);
-                setting.setValue(props.get("selected").asText());
-            } else if (props.has("value")) {
-                JsonNode valueNode = props.get("value");
-                if (valueNode.isNumber()) {
-                    setting.setType(SettingType.NUMERIC);
-                    setting.setValue(valueNode.numberValue());
+        try (JsonParser parser = objectMapper.createParser(inputMessage.getBody())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new HttpMessageNotReadableException(
+                        "Expected a 'settings' object at the root", inputMessage);
+            }
+            List<Setting> settings = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                JsonToken valueToken = parser.nextToken();
+                if (ApiConstant.SETTINGS_FIELD.equals(fieldName)) {
+                    // Like a tree parse, the last settings field wins over the previous ones
+                    settings = null;
+                    if (valueToken != JsonToken.START_OBJECT) {
+                        parser.skipChildren();
+                        continue;
+                    }
+                    settings = new ArrayList<>();
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String name = parser.currentName();
+                        parser.nextToken();
+                        settings.add(parseSetting(name, parser));
+                    }
                 } else {
-                    setting.setType(SettingType.TEXT);
-                    setting.setValue(valueNode.asText());
+                    parser.skipChildren();
                 }
             }
+            if (settings == null) {
+                throw new HttpMessageNotReadableException(
+                        "Expected a 'settings' object at the root", inputMessage);
+            }
+            return settings;
+        }
+    }
 
-            settings.add(setting);
+    /**
+     * Reads a setting object, the parser being positioned on its start.
+     * The setting is classified by the isOn, selected and value fields it contains, in this order of priority,
+     * whatever order they appear in; other fields are skipped.
+     *
+     * @param name setting name
+     * @param parser parser positioned on the setting value
+     * @return parsed setting, without type and value if the setting has none of the classifying fields
+     * @throws IOException if the setting cannot be read
+     */
+    private Setting parseSetting(String name, JsonParser parser) throws IOException {
+        Setting setting = new Setting();
+        setting.setName(name);
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return setting;
         }
+        int classifiedBy = Integer.MAX_VALUE;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            JsonToken valueToken = parser.nextToken();
+            int priority = CLASSIFYING_FIELDS.indexOf(fieldName);
+            if (priority >= 0 && priority <= classifiedBy) {
+                classifiedBy = priority;
+                switch (fieldName) {
+                    case "isOn" -> {
+                        setting.setType(SettingType.TOGGLE);
+                        setting.setValue(parser.getValueAsBoolean());
+                    }
+                    case "selected" -> {
+                        setting.setType(SettingType.DROPDOWN);
+                        setting.setValue(readText(parser, valueToken));
+                    }
+                    default -> {
+                        if (valueToken.isNumeric()) {
+                            setting.setType(SettingType.NUMERIC);
+                            setting.setValue(parser.getNumberValue());
+                        } else {
+                            setting.setType(SettingType.TEXT);
+                            setting.setValue(readText(parser, valueToken));
+                        }
+                    }
+                }
+            }
+            parser.skipChildren();
+        }
+        return setting;
+    }
 
-        return settings;
+    /**
+     * Reads the current value as text, the way {@link com.fasterxml.jackson.databind.JsonNode#asText()} renders it.
+     *
+     * @param parser parser positioned on the value
+     * @param valueToken current token
+     * @return text of a scalar value, {@code "null"} for a null value, empty text for an object or an array
+     * @throws IOException if the value cannot be read
+     */
+    private String readText(JsonParser parser, JsonToken valueToken) throws IOException {
+        if (valueToken == JsonToken.VALUE_NULL) {
+            return "null";
+        }
+        if (valueToken.isStructStart()) {
+            return "";
+        }
+        return parser.getValueAsString();
     }
 
     // ── Helpers ──────────────────────────────────────────────────────
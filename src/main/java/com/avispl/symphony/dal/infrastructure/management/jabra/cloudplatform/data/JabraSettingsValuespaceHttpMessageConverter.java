@@ -3,12 +3,13 @@
  */
 package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.data;
 
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common.constants.ApiConstant;
 import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.settings.valuespace.SettingDescriptor;
 import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.settings.valuespace.SettingsValuespace;
 import com.avispl.symphony.dal.util.StringUtils;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import org.springframework.http.HttpInputMessage;
 import org.springframework.http.HttpOutputMessage;
 import org.springframework.http.MediaType;
@@ -22,18 +23,30 @@ import java.nio.charset.StandardCharsets;
 import java.util.*;
 
 /**
- * Process json response of Jabra+ settings valuespaces to {@link SettingsValuespace}
+ * Process json response of Jabra+ settings valuespaces (feature-model.json) to {@link SettingsValuespace},
+ * in a single streaming pass that only reads the parts of the feature model the valuespaces are built from.
  *
  * @since 1.1.1
  * @author Maksym.Rossiitsev/AVISPL Team
  * */
 public class JabraSettingsValuespaceHttpMessageConverter implements GenericHttpMessageConverter<SettingsValuespace> {
+    private static final String LIST_SETTINGS = "listSettings"; //dropdowns
+    private static final String STRING_SETTINGS = "stringSettings"; //text
+    private static final String NUMBER_SETTINGS = "numberSettings"; //numeric-sliders
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final DescriptorInterner descriptorInterner;
     private static final List<MediaType> SUPPORTED_MEDIA_TYPES = List.of(
             MediaType.APPLICATION_JSON,
             new MediaType("application", "json", StandardCharsets.UTF_8)
     );
 
+    /**
+     * @param descriptorInterner intern pool the parsed setting names and descriptors are canonicalized through
+     */
+    public JabraSettingsValuespaceHttpMessageConverter(DescriptorInterner descriptorInterner) {
+        this.descriptorInterner = descriptorInterner;
+    }
+
     // ── GenericHttpMessageConverter (parameterized type) ──────────────
 
     @Override
@@ -86,91 +99,185 @@ public class JabraSettingsValuespaceHttpMessageConverter implements GenericHttpM
     }
 
     // ── Parsing logic ────────────────────────────────────────────────
-    private SettingsValuespace parseSettings(HttpInputMessage inputMessage) throws IOException {
-        JsonNode root = objectMapper.readTree(inputMessage.getBody());
 
-        JsonNode settingsNodeRaw = root.get("settings");
-        JsonNode settingIdsRaw = root.get("settingIds");
+    /**
+     * Reads the feature model in a single streaming pass. Only the settingIds object and the listSettings, stringSettings
+     * and numberSettings arrays of the settings object are read, every other subtree is skipped without being materialized.
+     * The settingIds object may come before or after the settings object, so the descriptors are keyed by their
+     * external setting ID while reading, and resolved to the internal setting names once the document is read.
+     */
+    private SettingsValuespace parseSettings(HttpInputMessage inputMessage) throws IOException {
+        Map<String, String> settingIdsReverse = null;
+        List<ValuespaceEntry> entries = null;
+        try (JsonParser parser = objectMapper.createParser(inputMessage.getBody())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new HttpMessageNotReadableException(
+                        "Expected a 'settings' object at the root", inputMessage);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                JsonToken valueToken = parser.nextToken();
+                if (entries == null && ApiConstant.SETTINGS_FIELD.equals(fieldName) && valueToken == JsonToken.START_OBJECT) {
+                    entries = readValuespaceEntries(parser);
+                } else if (settingIdsReverse == null && "settingIds".equals(fieldName) && valueToken == JsonToken.START_OBJECT) {
+                    settingIdsReverse = readSettingIdsReverse(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
 
-        if (settingsNodeRaw == null || !settingsNodeRaw.isObject()) {
+        if (entries == null) {
             throw new HttpMessageNotReadableException(
                     "Expected a 'settings' object at the root", inputMessage);
         }
-        if (settingIdsRaw == null || !settingIdsRaw.isObject()) {
+        if (settingIdsReverse == null) {
             throw new HttpMessageNotReadableException(
                     "Expected a 'settingIds' object at the root", inputMessage);
         }
 
-        Map<String, String> settingIdsReverse = new HashMap<>();
-
-        Iterator<String> jsonNodeIterator = settingIdsRaw.fieldNames();
-        while(jsonNodeIterator.hasNext()) {
-            String fieldName = jsonNodeIterator.next();
-            settingIdsReverse.put(settingIdsRaw.get(fieldName).asText(), fieldName);
-        }
-
-
-        ArrayNode listSettings = (ArrayNode)settingsNodeRaw.at("/listSettings"); //dropdowns
-        ArrayNode stringSettings = (ArrayNode)settingsNodeRaw.at("/stringSettings"); //numeric-sliders
-        ArrayNode numberSettings = (ArrayNode)settingsNodeRaw.at("/numberSettings"); //numeric-sliders
-
         Map<String, SettingDescriptor> settingDescriptorMap = new HashMap<>();
-        for(JsonNode props: listSettings) {
-            String settingId = props.at("/settingId").asText();
-            if (StringUtils.isNullOrEmpty(settingId)) {
+        for (ValuespaceEntry entry : entries) {
+            String settingIdInternal = settingIdsReverse.get(entry.settingId());
+            if (settingIdInternal == null) {
                 continue;
             }
-            String settingIdInternal = settingIdsReverse.get(settingId);
-            ArrayNode supportedValuesRaw = (ArrayNode)props.at("/supportedValues");
-            List<String> supportedValues = new ArrayList<>();
-            supportedValuesRaw.forEach(jsonNode -> supportedValues.add(jsonNode.asText()));
-
-            boolean requiresRestart = props.get("requiresRestart").asBoolean();
-            SettingDescriptor.DropdownValuespace dropdownValuespace = new SettingDescriptor.DropdownValuespace(requiresRestart, supportedValues);
-            SettingDescriptor settingDescriptor = new SettingDescriptor(dropdownValuespace);
-            settingDescriptorMap.put(settingIdInternal, settingDescriptor);
+            settingDescriptorMap.put(descriptorInterner.intern(settingIdInternal), descriptorInterner.intern(entry.descriptor()));
+        }
+        return new SettingsValuespace(settingDescriptorMap);
+    }
+
+    /**
+     * Reads the settingIds object, mapping each external setting ID to its internal setting name.
+     *
+     * @param parser parser positioned on the start of the settingIds object
+     * @return reverse map of the setting IDs
+     * @throws IOException if the object cannot be read
+     */
+    private Map<String, String> readSettingIdsReverse(JsonParser parser) throws IOException {
+        Map<String, String> settingIdsReverse = new HashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            settingIdsReverse.put(readText(parser, parser.nextToken()), fieldName);
         }
+        return settingIdsReverse;
+    }
 
-        for(JsonNode props: stringSettings) {
-            String settingId = props.at("/settingId").asText();
-            if (StringUtils.isNullOrEmpty(settingId)) {
+    /**
+     * Reads the supported setting arrays of the settings object, skipping the other fields.
+     *
+     * @param parser parser positioned on the start of the settings object
+     * @return descriptors keyed by their external setting ID, in document order
+     * @throws IOException if the object cannot be read
+     */
+    private List<ValuespaceEntry> readValuespaceEntries(JsonParser parser) throws IOException {
+        List<ValuespaceEntry> entries = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            JsonToken valueToken = parser.nextToken();
+            boolean supported = LIST_SETTINGS.equals(fieldName) || STRING_SETTINGS.equals(fieldName) || NUMBER_SETTINGS.equals(fieldName);
+            if (!supported || valueToken != JsonToken.START_ARRAY) {
+                parser.skipChildren();
                 continue;
             }
-            String settingIdInternal = settingIdsReverse.get(settingId);
-
-            JsonNode minLength = props.get("minimumLength");
-            JsonNode maxLength = props.get("maximumLength");
-            boolean requiresRestart = props.get("requiresRestart").asBoolean();
-            SettingDescriptor settingDescriptor;
-            if (minLength != null && maxLength != null) {
-                SettingDescriptor.TextValuespace textValuespace = new SettingDescriptor.TextValuespace(requiresRestart, minLength.asInt(), maxLength.asInt());
-                 settingDescriptor = new SettingDescriptor(textValuespace);
-            } else {
-                continue;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (parser.currentToken() != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    continue;
+                }
+                ValuespaceEntry entry = readValuespaceEntry(fieldName, parser);
+                if (entry != null) {
+                    entries.add(entry);
+                }
             }
-            settingDescriptorMap.put(settingIdInternal, settingDescriptor);
         }
+        return entries;
+    }
 
-        for(JsonNode props: numberSettings) {
-            String settingId = props.at("/settingId").asText();
-            if (StringUtils.isNullOrEmpty(settingId)) {
-                continue;
+    /**
+     * Reads a setting of the listSettings (dropdowns), stringSettings (text) or numberSettings (numeric sliders) array.
+     *
+     * @param arrayName name of the array the setting belongs to
+     * @param parser parser positioned on the start of the setting object
+     * @return the descriptor of the setting, or {@code null} if it has no setting ID or lacks its bounds
+     * @throws IOException if the object cannot be read
+     */
+    private ValuespaceEntry readValuespaceEntry(String arrayName, JsonParser parser) throws IOException {
+        String settingId = null;
+        boolean requiresRestart = false;
+        List<String> supportedValues = new ArrayList<>();
+        Integer min = null;
+        Integer max = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            JsonToken valueToken = parser.nextToken();
+            switch (fieldName) {
+                case "settingId" -> settingId = readText(parser, valueToken);
+                case "requiresRestart" -> requiresRestart = parser.getValueAsBoolean();
+                case "supportedValues" -> {
+                    if (valueToken == JsonToken.START_ARRAY) {
+                        while (parser.nextToken() != JsonToken.END_ARRAY) {
+                            supportedValues.add(readText(parser, parser.currentToken()));
+                        }
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                case "minimumLength", "minimumValue" -> min = readInt(parser, valueToken);
+                case "maximumLength", "maximumValue" -> max = readInt(parser, valueToken);
+                default -> parser.skipChildren();
             }
-            String settingIdInternal = settingIdsReverse.get(settingId);
-
-            JsonNode minValue = props.get("minimumValue");
-            JsonNode maxValue = props.get("maximumValue");
-            boolean requiresRestart = props.get("requiresRestart").asBoolean();
-            SettingDescriptor settingDescriptor;
-            if (minValue != null && maxValue != null) {
-                SettingDescriptor.NumberValuespace numberValuespace = new SettingDescriptor.NumberValuespace(requiresRestart, minValue.asInt(), maxValue.asInt());
-                settingDescriptor = new SettingDescriptor(numberValuespace);
-            } else {
-                continue;
-            }
-            settingDescriptorMap.put(settingIdInternal, settingDescriptor);
         }
-        return new SettingsValuespace(settingDescriptorMap);
+        if (StringUtils.isNullOrEmpty(settingId)) {
+            return null;
+        }
+        Object valuespace;
+        if (LIST_SETTINGS.equals(arrayName)) {
+            valuespace = new SettingDescriptor.DropdownValuespace(requiresRestart, supportedValues);
+        } else if (min == null || max == null) {
+            return null;
+        } else if (STRING_SETTINGS.equals(arrayName)) {
+            valuespace = new SettingDescriptor.TextValuespace(requiresRestart, min, max);
+        } else {
+            valuespace = new SettingDescriptor.NumberValuespace(requiresRestart, min, max);
+        }
+        return new ValuespaceEntry(settingId, new SettingDescriptor(valuespace));
+    }
+
+    /**
+     * Reads the current value as text, the way {@link com.fasterxml.jackson.databind.JsonNode#asText()} renders it,
+     * skipping the value if it is an object or an array.
+     */
+    private String readText(JsonParser parser, JsonToken valueToken) throws IOException {
+        if (valueToken == JsonToken.VALUE_NULL) {
+            return "null";
+        }
+        if (valueToken.isStructStart()) {
+            parser.skipChildren();
+            return "";
+        }
+        return parser.getValueAsString();
+    }
+
+    /**
+     * Reads the current value as int, the way {@link com.fasterxml.jackson.databind.JsonNode#asInt()} converts it,
+     * skipping the value if it is an object or an array.
+     */
+    private int readInt(JsonParser parser, JsonToken valueToken) throws IOException {
+        if (valueToken.isStructStart()) {
+            parser.skipChildren();
+            return 0;
+        }
+        return parser.getValueAsInt();
+    }
+
+    /**
+     * Descriptor of a setting, keyed by its external setting ID.
+     *
+     * @param settingId external setting ID
+     * @param descriptor descriptor of the setting
+     */
+    private record ValuespaceEntry(String settingId, SettingDescriptor descriptor) {
     }
 
     // ── Helpers ──────────────────────────────────────────────────────
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.data;
+
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.requests.SettingsRequest;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.requests.SettingsRequest.OptionDetail;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Store of the pending settings changes of devices, keyed by device ID.
+ * <p>
+ * The pending changes of a device expire a fixed time after the first of them was made, unless they are applied or canceled before.
+ * Expiries are kept in a {@link DelayQueue}, so {@link #expire()} only visits the expired requests.
+ * Devices whose pending changes were added, applied, canceled or expired are marked dirty until {@link #drainDirtyDevices()},
+ * so the Apply/Cancel controls are only maintained for them.
+ * Stored {@link SettingsRequest} instances are never modified, every change replaces the request of the device.
+ * </p>
+ *
+ * @author Symphony Dev Team
+ * @since 1.2.0
+ */
+public class PendingSettingsStore {
+    private final long expiryTimeMs;
+    private final Map<String, SettingsRequest> requests = new ConcurrentHashMap<>();
+    private final DelayQueue<Expiry> expiries = new DelayQueue<>();
+    private final Set<String> dirtyDevices = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param expiryTimeMs time (ms) the pending changes of a device are kept for after the first of them was made
+     */
+    public PendingSettingsStore(long expiryTimeMs) {
+        this.expiryTimeMs = expiryTimeMs;
+    }
+
+    /**
+     * Adds a pending change of a device setting, replacing the pending change of the same setting.
+     *
+     * @param deviceId device ID
+     * @param settingName API name of the setting
+     * @param optionDetail new value of the setting
+     */
+    public void put(String deviceId, String settingName, OptionDetail optionDetail) {
+        requests.compute(deviceId, (id, previous) -> {
+            if (previous == null) {
+                long expiryTime = System.currentTimeMillis() + expiryTimeMs;
+                expiries.add(new Expiry(id, expiryTime));
+                return new SettingsRequest(id, expiryTime, Collections.singletonMap(settingName, optionDetail));
+            }
+            Map<String, OptionDetail> settings = new HashMap<>(previous.getSettings());
+            settings.put(settingName, optionDetail);
+            return new SettingsRequest(id, previous.getExpiryTime(), settings);
+        });
+        dirtyDevices.add(deviceId);
+    }
+
+    /**
+     * Retrieves the pending settings request of a device.
+     *
+     * @param deviceId device ID
+     * @return the settings request, {@code null} if the device has no pending changes
+     */
+    public SettingsRequest get(String deviceId) {
+        return deviceId != null ? requests.get(deviceId) : null;
+    }
+
+    /**
+     * Retrieves the pending changes of a device.
+     *
+     * @param deviceId device ID
+     * @return the pending changes by setting API name, empty if the device has none
+     */
+    public Map<String, OptionDetail> getSettings(String deviceId) {
+        SettingsRequest request = get(deviceId);
+        return request != null ? request.getSettings() : Collections.emptyMap();
+    }
+
+    /**
+     * Removes the pending changes of a device, once applied or canceled.
+     *
+     * @param deviceId device ID
+     * @return the removed settings request, {@code null} if the device had no pending changes
+     */
+    public SettingsRequest remove(String deviceId) {
+        SettingsRequest removed = requests.remove(deviceId);
+        if (removed != null) {
+            dirtyDevices.add(deviceId);
+        }
+        return removed;
+    }
+
+    /**
+     * Removes the expired pending changes.
+     *
+     * @return number of devices whose pending changes expired
+     */
+    public int expire() {
+        int expired = 0;
+        Expiry expiry;
+        while ((expiry = expiries.poll()) != null) {
+            SettingsRequest request = requests.get(expiry.deviceId());
+            if (request != null && request.getExpiryTime() == expiry.expiryTime() && requests.remove(expiry.deviceId(), request)) {
+                dirtyDevices.add(expiry.deviceId());
+                expired++;
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * Marks a device dirty, so its Apply/Cancel controls are maintained on the next {@link #drainDirtyDevices()}.
+     *
+     * @param deviceId device ID
+     */
+    public void markDirty(String deviceId) {
+        dirtyDevices.add(deviceId);
+    }
+
+    /**
+     * Retrieves and clears the devices whose pending changes changed since the last call.
+     *
+     * @return IDs of the dirty devices
+     */
+    public Set<String> drainDirtyDevices() {
+        Set<String> drained = new HashSet<>();
+        Iterator<String> iterator = dirtyDevices.iterator();
+        while (iterator.hasNext()) {
+            drained.add(iterator.next());
+            iterator.remove();
+        }
+        return drained;
+    }
+
+    /**
+     * Removes all the pending changes.
+     */
+    public void clear() {
+        requests.clear();
+        expiries.clear();
+        dirtyDevices.clear();
+    }
+
+    /**
+     * Expiry of the pending changes of a device.
+     *
+     * @param deviceId device ID
+     * @param expiryTime timestamp (ms) the pending changes expire at
+     */
+    private record Expiry(String deviceId, long expiryTime) implements Delayed {
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(expiryTime - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(expiryTime, ((Expiry) other).expiryTime);
+        }
+    }
+}
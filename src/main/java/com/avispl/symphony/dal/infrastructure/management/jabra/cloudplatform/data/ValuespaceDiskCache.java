@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.data;
+
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.settings.valuespace.SettingDescriptor;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.settings.valuespace.SettingsValuespace;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Persistent on-disk cache of {@link SettingsValuespace}, keyed by valuespace URL.
+ * <p>
+ * Valuespace URLs are versioned by product, variant and firmware, so the entries never expire.
+ * Each entry is stored in a compact binary form, in a file named by the SHA-256 hash of the URL.
+ * The file holds the URL itself and a CRC32 of the payload: entries which do not match are deleted and reported as missing.
+ * Files are written atomically, and the least recently used ones are evicted once the cache exceeds its size cap.
+ * </p>
+ *
+ * @author Symphony Dev Team
+ * @since 1.2.0
+ */
+public class ValuespaceDiskCache {
+    private static final int MAGIC = 0x4A565343;
+    private static final byte FORMAT_VERSION = 1;
+    private static final String FILE_EXTENSION = ".vsc";
+
+    private static final byte DROPDOWN = 0;
+    private static final byte NUMBER = 1;
+    private static final byte TEXT = 2;
+
+    private final Log logger = LogFactory.getLog(this.getClass());
+    private final Path directory;
+    private final long maxSizeBytes;
+    private final DescriptorInterner descriptorInterner;
+    private final LongAdder hits = new LongAdder();
+
+    public ValuespaceDiskCache(Path directory, long maxSizeBytes, DescriptorInterner descriptorInterner) {
+        this.directory = directory;
+        this.maxSizeBytes = maxSizeBytes;
+        this.descriptorInterner = descriptorInterner;
+    }
+
+    /**
+     * Reads the valuespace of the URL from the cache.
+     *
+     * @param url valuespace URL
+     * @return cached valuespace, or {@code null} if it is missing or its entry is corrupted
+     */
+    public SettingsValuespace read(String url) {
+        Path file = resolve(url);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(file)))) {
+            if (in.readInt() != MAGIC || in.readByte() != FORMAT_VERSION || !url.equals(in.readUTF())) {
+                throw new IOException("Unexpected entry header");
+            }
+            byte[] payload = new byte[in.readInt()];
+            in.readFully(payload);
+            if (in.readLong() != crc(payload)) {
+                throw new IOException("CRC mismatch");
+            }
+            SettingsValuespace valuespace = readPayload(payload);
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            hits.increment();
+            return valuespace;
+        } catch (IOException | RuntimeException e) {
+            logger.warn(String.format("Valuespace cache entry of %s is corrupted and will be removed: %s", url, e.getMessage()));
+            deleteQuietly(file);
+            return null;
+        }
+    }
+
+    /**
+     * Writes the valuespace of the URL to the cache, then evicts the least recently used entries above the size cap.
+     *
+     * @param url valuespace URL
+     * @param valuespace valuespace to store
+     */
+    public void write(String url, SettingsValuespace valuespace) {
+        Path file = resolve(url);
+        Path tempFile = null;
+        try {
+            Files.createDirectories(directory);
+            byte[] payload = writePayload(valuespace);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(payload.length + url.length() + 32);
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                out.writeInt(MAGIC);
+                out.writeByte(FORMAT_VERSION);
+                out.writeUTF(url);
+                out.writeInt(payload.length);
+                out.write(payload);
+                out.writeLong(crc(payload));
+            }
+            tempFile = Files.createTempFile(directory, "valuespace", ".tmp");
+            Files.write(tempFile, bytes.toByteArray());
+            try {
+                Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            evict();
+        } catch (IOException | RuntimeException e) {
+            logger.warn(String.format("Unable to store valuespace cache entry of %s: %s", url, e.getMessage()));
+            if (tempFile != null) {
+                deleteQuietly(tempFile);
+            }
+        }
+    }
+
+    /**
+     * Retrieves the number of valuespaces read from the cache.
+     *
+     * @return number of cache hits
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Deletes the least recently used entries until the cache size is below {@link #maxSizeBytes}.
+     *
+     * @throws IOException if the cache directory cannot be listed
+     */
+    private synchronized void evict() throws IOException {
+        List<Path> entries;
+        try (Stream<Path> files = Files.list(directory)) {
+            entries = files.filter(path -> path.getFileName().toString().endsWith(FILE_EXTENSION)).collect(Collectors.toList());
+        }
+        Map<Path, Long> sizes = new HashMap<>();
+        Map<Path, Long> accessTimes = new HashMap<>();
+        long totalSize = 0;
+        for (Path entry : entries) {
+            try {
+                sizes.put(entry, Files.size(entry));
+                accessTimes.put(entry, Files.getLastModifiedTime(entry).toMillis());
+                totalSize += sizes.get(entry);
+            } catch (IOException e) {
+                sizes.put(entry, 0L);
+                accessTimes.put(entry, 0L);
+            }
+        }
+        if (totalSize <= maxSizeBytes) {
+            return;
+        }
+        entries.sort(Comparator.comparingLong(accessTimes::get));
+        for (Path entry : entries) {
+            if (totalSize <= maxSizeBytes) {
+                break;
+            }
+            deleteQuietly(entry);
+            totalSize -= sizes.get(entry);
+        }
+    }
+
+    private Path resolve(String url) {
+        return directory.resolve(sha256(url) + FILE_EXTENSION);
+    }
+
+    private static byte[] writePayload(SettingsValuespace valuespace) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            Map<String, SettingDescriptor> descriptors = valuespace.descriptors();
+            out.writeInt(descriptors.size());
+            for (Map.Entry<String, SettingDescriptor> entry : descriptors.entrySet()) {
+                out.writeBoolean(entry.getKey() != null);
+                if (entry.getKey() != null) {
+                    out.writeUTF(entry.getKey());
+                }
+                Object descriptor = entry.getValue().valuespace();
+                if (descriptor instanceof SettingDescriptor.DropdownValuespace dropdown) {
+                    out.writeByte(DROPDOWN);
+                    out.writeBoolean(dropdown.requiresRestart());
+                    out.writeInt(dropdown.options().size());
+                    for (String option : dropdown.options()) {
+                        out.writeUTF(option);
+                    }
+                } else if (descriptor instanceof SettingDescriptor.NumberValuespace number) {
+                    out.writeByte(NUMBER);
+                    out.writeBoolean(number.requiresRestart());
+                    out.writeInt(number.min());
+                    out.writeInt(number.max());
+                } else if (descriptor instanceof SettingDescriptor.TextValuespace text) {
+                    out.writeByte(TEXT);
+                    out.writeBoolean(text.requiresRestart());
+                    out.writeInt(text.minLength());
+                    out.writeInt(text.maxLength());
+                } else {
+                    throw new IOException("Unsupported valuespace type: " + descriptor);
+                }
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private SettingsValuespace readPayload(byte[] payload) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            int count = in.readInt();
+            Map<String, SettingDescriptor> descriptors = new HashMap<>(Math.max(16, count * 4 / 3 + 1));
+            for (int i = 0; i < count; i++) {
+                String key = in.readBoolean() ? descriptorInterner.intern(in.readUTF()) : null;
+                byte type = in.readByte();
+                boolean requiresRestart = in.readBoolean();
+                Object descriptor;
+                switch (type) {
+                    case DROPDOWN:
+                        int optionsCount = in.readInt();
+                        List<String> options = new ArrayList<>(optionsCount);
+                        for (int j = 0; j < optionsCount; j++) {
+                            options.add(in.readUTF());
+                        }
+                        descriptor = new SettingDescriptor.DropdownValuespace(requiresRestart, options);
+                        break;
+                    case NUMBER:
+                        descriptor = new SettingDescriptor.NumberValuespace(requiresRestart, in.readInt(), in.readInt());
+                        break;
+                    case TEXT:
+                        descriptor = new SettingDescriptor.TextValuespace(requiresRestart, in.readInt(), in.readInt());
+                        break;
+                    default:
+                        throw new IOException("Unsupported valuespace type: " + type);
+                }
+                descriptors.put(key, descriptorInterner.intern(new SettingDescriptor(descriptor)));
+            }
+            return new SettingsValuespace(descriptors);
+        }
+    }
+
+    private static long crc(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return crc.getValue();
+    }
+
+    private static String sha256(String value) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Unable to delete valuespace cache file " + file + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models;
+
+import java.util.List;
+import java.util.Map;
+
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.device.Device;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.rooms.DeviceOverview;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.rooms.Room;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.settings.Setting;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Collected adapter data persisted between adapter restarts, served as provisional data until fresh data is retrieved.
+ *
+ * @param devices devices list
+ * @param devicesSettings settings of the devices, keyed by device ID
+ * @param deviceValuespaces settings valuespace URLs of the devices, keyed by device ID
+ * @param rooms rooms of the devices
+ * @param devicesRooms overview devices collected from all rooms
+ * @param timestamp time the snapshot was taken at
+ *
+ * @author Symphony Dev Team
+ * @since 1.2.0
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record AdapterStateSnapshot(
+		List<Device> devices,
+		Map<String, List<Setting>> devicesSettings,
+		Map<String, String> deviceValuespaces,
+		List<Room> rooms,
+		List<DeviceOverview> devicesRooms,
+		long timestamp
+) {
+}
@@ -13,7 +13,7 @@ import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.com
  */
 public class IntervalSetting {
 	private final long intervalMs;
-	private long validRetrievalTimestamp;
+	private volatile long validRetrievalTimestamp;
 
 	public IntervalSetting() {
 		this.intervalMs = Constant.DEFAULT_INTERVAL_MS;
@@ -51,6 +51,15 @@ public class IntervalSetting {
 		return isValid;
 	}
 
+	/**
+	 * Returns the time remaining until the next retrieval becomes available.
+	 *
+	 * @return remaining time in milliseconds, {@code 0} if the retrieval is available now
+	 */
+	public long getRemainingMs() {
+		return Math.max(this.validRetrievalTimestamp - System.currentTimeMillis(), 0L);
+	}
+
 	/**
 	 * Returns a message indicating how long remains until the next retrieval becomes available.
 	 * <br/>
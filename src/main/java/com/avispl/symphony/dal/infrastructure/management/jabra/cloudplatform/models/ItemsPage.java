@@ -0,0 +1,19 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models;
+
+import java.util.List;
+
+/**
+ * Single page of a paginated Jabra+ API list response.
+ *
+ * @param items items of the page
+ * @param continuationToken token of the next page, {@code null} if this is the last page
+ * @param <T> type of the items
+ *
+ * @author Symphony Dev Team
+ * @since 1.2.0
+ */
+public record ItemsPage<T>(List<T> items, String continuationToken) {
+}
@@ -3,6 +3,8 @@
  */
 package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.device;
 
+import java.util.Objects;
+
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 /**
@@ -112,4 +114,21 @@ public class Computer {
 	public void setMacAddress(String macAddress) {
 		this.macAddress = macAddress;
 	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof Computer)) {
+			return false;
+		}
+		Computer that = (Computer) o;
+		return Objects.equals(computerName, that.computerName) && Objects.equals(operatingSystem, that.operatingSystem) && Objects.equals(userName, that.userName) && Objects.equals(ipAddress, that.ipAddress) && Objects.equals(macAddress, that.macAddress);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(computerName, operatingSystem, userName, ipAddress, macAddress);
+	}
 }
@@ -3,6 +3,8 @@
  */
 package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.device;
 
+import java.util.Objects;
+
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
@@ -361,4 +363,21 @@ public class Device {
 	public void setRoomLocation(String roomLocation) {
 		this.roomLocation = roomLocation;
 	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof Device)) {
+			return false;
+		}
+		Device that = (Device) o;
+		return Objects.equals(id, that.id) && Objects.equals(serialNumber, that.serialNumber) && Objects.equals(name, that.name) && Objects.equals(productId, that.productId) && Objects.equals(variantType, that.variantType) && Objects.equals(productName, that.productName) && Objects.equals(firmwareVersion, that.firmwareVersion) && Objects.equals(firmwareUpdateInProgress, that.firmwareUpdateInProgress) && Objects.equals(groupId, that.groupId) && Objects.equals(addedAt, that.addedAt) && Objects.equals(lastSeenAt, that.lastSeenAt) && Objects.equals(isConnected, that.isConnected) && Objects.equals(deviceConnectionStatus, that.deviceConnectionStatus) && Objects.equals(computer, that.computer) && Objects.equals(jabraClient, that.jabraClient) && Objects.equals(roomName, that.roomName) && Objects.equals(roomType, that.roomType) && Objects.equals(roomLocation, that.roomLocation);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(id, serialNumber, name, productId, variantType, productName, firmwareVersion, firmwareUpdateInProgress, groupId, addedAt, lastSeenAt, isConnected, deviceConnectionStatus, computer, jabraClient, roomName, roomType, roomLocation);
+	}
 }
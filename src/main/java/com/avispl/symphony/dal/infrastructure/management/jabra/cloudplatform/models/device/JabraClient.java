@@ -3,6 +3,8 @@
  */
 package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.device;
 
+import java.util.Objects;
+
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 /**
@@ -112,4 +114,21 @@ public class JabraClient {
 	public void setAutoUpdate(Boolean autoUpdate) {
 		this.autoUpdate = autoUpdate;
 	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof JabraClient)) {
+			return false;
+		}
+		JabraClient that = (JabraClient) o;
+		return Objects.equals(client, that.client) && Objects.equals(clientName, that.clientName) && Objects.equals(clientType, that.clientType) && Objects.equals(clientVersion, that.clientVersion) && Objects.equals(autoUpdate, that.autoUpdate);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(client, clientName, clientType, clientVersion, autoUpdate);
+	}
 }
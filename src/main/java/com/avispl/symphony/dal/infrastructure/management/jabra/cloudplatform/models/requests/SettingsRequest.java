@@ -6,6 +6,7 @@ package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.mo
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
 import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common.constants.ApiConstant;
 
@@ -91,6 +92,23 @@ public class SettingsRequest {
 		public boolean getIsLocked() {
 			return isLocked;
 		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof OptionDetail)) {
+				return false;
+			}
+			OptionDetail that = (OptionDetail) o;
+			return requiresRestart == that.requiresRestart && isLocked == that.isLocked && Objects.equals(value, that.value);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(requiresRestart, isLocked, value);
+		}
 	}
 
 	/**
@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.rooms;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable result of a rooms retrieval, published by the data loader and read by the statistics retrieval.
+ *
+ * @param rooms rooms retrieved for the current devices
+ * @param devicesRooms overview devices collected from all rooms
+ * @param error fatal error of the retrieval (login failure or unreachable API), {@code null} if none
+ * @param timestamp time the snapshot was published at
+ *
+ * @author Symphony Dev Team
+ * @since 1.2.0
+ */
+public record RoomsSnapshot(List<Room> rooms, List<DeviceOverview> devicesRooms, Exception error, long timestamp) {
+	/**
+	 * Snapshot used until the first rooms retrieval is completed.
+	 */
+	public static final RoomsSnapshot EMPTY = new RoomsSnapshot(Collections.emptyList(), Collections.emptyList(), null, 0L);
+}
@@ -3,6 +3,8 @@
  */
 package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.settings;
 
+import java.util.Objects;
+
 public class Setting {
     private String name;
     private SettingType type;
@@ -61,4 +63,21 @@ public class Setting {
     public void setValue(Object value) {
         this.value = value;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Setting)) {
+            return false;
+        }
+        Setting setting = (Setting) o;
+        return Objects.equals(name, setting.name) && type == setting.type && Objects.equals(value, setting.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, type, value);
+    }
 }
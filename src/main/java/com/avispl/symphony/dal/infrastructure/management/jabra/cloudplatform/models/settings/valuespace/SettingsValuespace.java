@@ -1,5 +1,48 @@
 package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.settings.valuespace;
 
+import java.util.List;
 import java.util.Map;
 
-public record SettingsValuespace(Map<String, SettingDescriptor> descriptors) {}
+public record SettingsValuespace(Map<String, SettingDescriptor> descriptors) {
+
+    /**
+     * Rough per-object overheads (bytes) used by {@link #estimateSize()}
+     */
+    private static final long OBJECT_OVERHEAD = 16L;
+    private static final long MAP_ENTRY_OVERHEAD = 48L;
+    private static final long STRING_OVERHEAD = 40L;
+    private static final long LIST_ELEMENT_OVERHEAD = 8L;
+
+    /**
+     * Estimates the heap memory retained by the valuespace, counting the descriptors map, the setting names,
+     * the descriptors and the dropdown options. The estimate is meant for cache sizing, not for exact accounting.
+     *
+     * @return estimated retained size in bytes
+     */
+    public long estimateSize() {
+        long size = OBJECT_OVERHEAD + MAP_ENTRY_OVERHEAD;
+        if (descriptors == null) {
+            return size;
+        }
+        for (Map.Entry<String, SettingDescriptor> entry : descriptors.entrySet()) {
+            size += MAP_ENTRY_OVERHEAD + estimateStringSize(entry.getKey()) + OBJECT_OVERHEAD;
+            SettingDescriptor descriptor = entry.getValue();
+            if (descriptor == null || descriptor.valuespace() == null) {
+                continue;
+            }
+            size += OBJECT_OVERHEAD + 8L;
+            if (descriptor.valuespace() instanceof SettingDescriptor.DropdownValuespace dropdown && dropdown.options() != null) {
+                List<String> options = dropdown.options();
+                size += OBJECT_OVERHEAD + options.size() * LIST_ELEMENT_OVERHEAD;
+                for (String option : options) {
+                    size += estimateStringSize(option);
+                }
+            }
+        }
+        return size;
+    }
+
+    private static long estimateStringSize(String value) {
+        return value == null ? 0L : STRING_OVERHEAD + value.length();
+    }
+}
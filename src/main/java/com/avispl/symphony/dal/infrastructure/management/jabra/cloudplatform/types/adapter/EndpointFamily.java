@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.types.adapter;
+
+/**
+ * Enumeration representing the families of API endpoints polled by the adapter, tracked by separate circuit breakers.
+ *
+ * @author Symphony Dev Team
+ * @since 1.2.0
+ */
+public enum EndpointFamily {
+	DEVICES("Devices"), DEVICE_SETTINGS("DeviceSettings"), ROOMS("Rooms"), VALUESPACE("Valuespace");
+
+	private final String name;
+
+	EndpointFamily(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Defines the endpoint family of a polling request of the API by its path.
+	 * {@link #VALUESPACE} requests are not defined by their path, since their URL is configurable.
+	 *
+	 * @param path path of the request
+	 * @return endpoint family of the request, or {@code null} if the path does not belong to any polled family
+	 */
+	public static EndpointFamily fromPath(String path) {
+		if (path == null) {
+			return null;
+		}
+		if (path.contains("meetingrooms/api/meetingrooms/")) {
+			return ROOMS;
+		}
+		if (path.contains("devices/api/devices")) {
+			return path.endsWith("/settings") ? DEVICE_SETTINGS : DEVICES;
+		}
+		return null;
+	}
+}
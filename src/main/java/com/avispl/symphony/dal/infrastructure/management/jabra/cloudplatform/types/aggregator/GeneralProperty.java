@@ -17,8 +17,10 @@ public enum GeneralProperty implements BaseProperty {
 	ADAPTER_UPTIME_MIN("AdapterUptime(min)", "adapter.uptime"),
 	ADAPTER_VERSION("AdapterVersion", "adapter.version"),
 	LAST_MONITORING_CYCLE_DURATION("LastMonitoringCycleDuration(sec)", "adapter.cycle.duration"),
+	LAST_SETTINGS_CYCLE_DURATION("LastSettingsCycleDuration(sec)", "adapter.settings.cycle.duration"),
 	MONITORED_DEVICES_TOTAL("MonitoredDevicesTotal", "adapter.devices.total"),
-	MONITORED_CYCLE_INTERVAL("MonitoringCycleInterval(min)", "adapter.cycle.interval");
+	MONITORED_CYCLE_INTERVAL("MonitoringCycleInterval(min)", "adapter.cycle.interval"),
+	PROVISIONAL_DATA("ProvisionalData", "adapter.provisional.data");
 
 	private final String name;
 	private final String property;
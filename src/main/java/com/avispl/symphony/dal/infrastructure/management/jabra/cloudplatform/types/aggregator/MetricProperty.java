@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.types.aggregator;
+
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.bases.BaseProperty;
+
+/**
+ * Represents adapter metrics properties of an aggregator device.
+ *
+ * @author Symphony Dev Team
+ * @since 1.2.0
+ */
+public enum MetricProperty implements BaseProperty {
+	RATE_LIMIT("RateLimit(req/sec)"),
+	RATE_LIMITER_REQUESTS("RateLimiterRequests"),
+	RATE_LIMITER_THROTTLED_REQUESTS("RateLimiterThrottledRequests"),
+	RATE_LIMITER_TOTAL_WAIT("RateLimiterTotalWait(ms)"),
+	RATE_LIMITER_AVERAGE_WAIT("RateLimiterAverageWait(ms)"),
+	RATE_LIMITER_MAX_WAIT("RateLimiterMaxWait(ms)"),
+	RETRY_AFTER_GATE_ACTIVATIONS("RetryAfterGateActivations"),
+	RETRY_AFTER_GATE_PAUSED_TIME("RetryAfterGatePausedTime(ms)"),
+	RETRY_AFTER_GATE_DEFERRALS("RetryAfterGateDeferrals"),
+	CIRCUIT_BREAKER_DEVICES("CircuitBreakerDevices"),
+	CIRCUIT_BREAKER_DEVICE_SETTINGS("CircuitBreakerDeviceSettings"),
+	CIRCUIT_BREAKER_ROOMS("CircuitBreakerRooms"),
+	CIRCUIT_BREAKER_VALUESPACE("CircuitBreakerValuespace"),
+	CIRCUIT_BREAKER_SHORT_CIRCUITED_REQUESTS("CircuitBreakerShortCircuitedRequests"),
+	VALUESPACE_CACHE_HITS("ValuespaceCacheHits"),
+	VALUESPACE_CACHE_MISSES("ValuespaceCacheMisses"),
+	VALUESPACE_COALESCED_REQUESTS("ValuespaceCoalescedRequests"),
+	VALUESPACE_DISK_CACHE_HITS("ValuespaceDiskCacheHits"),
+	VALUESPACE_NEGATIVE_CACHE_ENTRIES("ValuespaceNegativeCacheEntries"),
+	VALUESPACE_NEGATIVE_CACHE_SKIPPED_LOOKUPS("ValuespaceNegativeCacheSkippedLookups"),
+	VALUESPACE_CACHE_ENTRIES("ValuespaceCacheEntries"),
+	VALUESPACE_CACHE_ESTIMATED_SIZE("ValuespaceCacheEstimatedSize(KB)"),
+	VALUESPACE_CACHE_EVICTIONS("ValuespaceCacheEvictions"),
+	VALUESPACE_INTERNED_INSTANCES("ValuespaceInternedInstances"),
+	VALUESPACE_INTERN_HITS("ValuespaceInternHits"),
+	DEVICE_VALUESPACE_MAPPINGS("DeviceValuespaceMappings"),
+	SETTINGS_POLLING_COLD_DEVICES("SettingsPollingColdDevices"),
+	CONDITIONAL_REQUESTS("ConditionalRequests"),
+	NOT_MODIFIED_RESPONSES("NotModifiedResponses"),
+	NOT_MODIFIED_RATE("NotModifiedRate(%)"),
+	NOT_MODIFIED_BYTES_SAVED("NotModifiedBytesSaved(KB)"),
+	AGGREGATED_DEVICES_REBUILT("AggregatedDevicesRebuilt"),
+	DELIVERED_AGGREGATED_DEVICES("DeliveredAggregatedDevices"),
+	DEVICES_RETRIEVAL_LAST_PUBLISHED("DevicesRetrievalLastPublished"),
+	DEVICES_RETRIEVAL_LAST_DURATION("DevicesRetrievalLastDuration(ms)"),
+	DEVICES_RETRIEVAL_IN_FLIGHT("DevicesRetrievalInFlight"),
+	DEVICE_SETTINGS_RETRIEVAL_LAST_PUBLISHED("DeviceSettingsRetrievalLastPublished"),
+	DEVICE_SETTINGS_RETRIEVAL_LAST_DURATION("DeviceSettingsRetrievalLastDuration(ms)"),
+	DEVICE_SETTINGS_RETRIEVAL_IN_FLIGHT("DeviceSettingsRetrievalInFlight"),
+	ROOMS_RETRIEVAL_LAST_PUBLISHED("RoomsRetrievalLastPublished"),
+	ROOMS_RETRIEVAL_LAST_DURATION("RoomsRetrievalLastDuration(ms)"),
+	ROOMS_RETRIEVAL_IN_FLIGHT("RoomsRetrievalInFlight");
+
+	private final String name;
+
+	MetricProperty(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	@Override
+	public String getName() {
+		return name;
+	}
+}
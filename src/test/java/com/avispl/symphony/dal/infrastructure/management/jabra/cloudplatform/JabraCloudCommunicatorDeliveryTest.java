@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common.constants.Constant;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.device.Device;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.requests.SettingsRequest.OptionDetail;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.rooms.DeviceOverview;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.rooms.RoomsSnapshot;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.settings.Setting;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.settings.SettingType;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.settings.valuespace.SettingsValuespace;
+
+/**
+ * Unit tests for the aggregated devices reuse and delivery of the {@link JabraCloudCommunicator} class,
+ * run on collected data set directly, without connecting to the API.
+ *
+ * @author Symphony Dev Team
+ * @since 1.2.0
+ */
+@Tag("Mock")
+class JabraCloudCommunicatorDeliveryTest {
+	private static final String VALUESPACE_URL = "https://cdn.jabra.com/feature-model.json";
+
+	private JabraCloudCommunicator communicator;
+
+	@BeforeEach
+	void setUp() {
+		this.communicator = new JabraCloudCommunicator();
+		this.communicator.getDevices().add(device("a", "Panacast 50"));
+		this.communicator.getDevices().add(device("b", "Panacast 20"));
+	}
+
+	@Test
+	void testUnchangedDevicesAreReused() {
+		Map<String, AggregatedDevice> first = this.refresh();
+		Map<String, AggregatedDevice> second = this.refresh();
+		Assertions.assertSame(first.get("a"), second.get("a"));
+		Assertions.assertSame(first.get("b"), second.get("b"));
+	}
+
+	@Test
+	void testDeviceChangeRebuildsDevice() {
+		Map<String, AggregatedDevice> first = this.refresh();
+		this.communicator.getDevices().get(0).setName("Boardroom");
+		Map<String, AggregatedDevice> second = this.refresh();
+		Assertions.assertNotSame(first.get("a"), second.get("a"));
+		Assertions.assertEquals("Boardroom", second.get("a").getDeviceName());
+		Assertions.assertSame(first.get("b"), second.get("b"));
+	}
+
+	@Test
+	void testSettingsChangeRebuildsDevice() {
+		Map<String, AggregatedDevice> first = this.refresh();
+		this.communicator.getDevicesSettings().put("a", List.of(setting("autoWakeUp", true)));
+		Map<String, AggregatedDevice> second = this.refresh();
+		Assertions.assertNotSame(first.get("a"), second.get("a"));
+		Assertions.assertSame(second.get("a"), this.refresh().get("a"));
+
+		this.communicator.getDevicesSettings().put("a", List.of(setting("autoWakeUp", false)));
+		Assertions.assertNotSame(second.get("a"), this.refresh().get("a"));
+	}
+
+	@Test
+	void testPendingChangesRebuildDevice() {
+		Map<String, AggregatedDevice> first = this.refresh();
+		this.communicator.getPendingSettings().put("a", "autoWakeUp", new OptionDetail("true", false));
+		Map<String, AggregatedDevice> second = this.refresh();
+		Assertions.assertNotSame(first.get("a"), second.get("a"));
+		Assertions.assertSame(first.get("b"), second.get("b"));
+	}
+
+	@Test
+	void testRoomMembershipRebuildsDevice() {
+		Map<String, AggregatedDevice> first = this.refresh();
+		DeviceOverview deviceOverview = new DeviceOverview();
+		deviceOverview.setId("b");
+		this.communicator.setRoomsSnapshot(new RoomsSnapshot(Collections.emptyList(), List.of(deviceOverview), null, 1L));
+		Map<String, AggregatedDevice> second = this.refresh();
+		Assertions.assertSame(first.get("a"), second.get("a"));
+		Assertions.assertNotSame(first.get("b"), second.get("b"));
+	}
+
+	@Test
+	void testValuespaceRebuildsDevice() {
+		this.communicator.setDisplayPropertyGroups(Constant.AGGREGATED_SETTINGS_GROUP);
+		Map<String, AggregatedDevice> first = this.refresh();
+		this.communicator.getDeviceIdFeatureModelSettingsValuespace().put("a", VALUESPACE_URL);
+		Map<String, AggregatedDevice> second = this.refresh();
+		Assertions.assertNotSame(first.get("a"), second.get("a"));
+
+		this.communicator.getFeatureModelSettingsValuespace().put(VALUESPACE_URL, new SettingsValuespace(Collections.emptyMap()));
+		Map<String, AggregatedDevice> third = this.refresh();
+		Assertions.assertNotSame(second.get("a"), third.get("a"));
+		Assertions.assertSame(first.get("b"), third.get("b"));
+	}
+
+	@Test
+	void testDevicesWithoutIdAreAlwaysRebuilt() {
+		this.communicator.getDevices().add(device(null, "Panacast Control"));
+		this.communicator.refreshAggregatedDevices();
+		AggregatedDevice withoutId = this.withoutId(this.communicator.deliverAggregatedDevices(null));
+		this.communicator.refreshAggregatedDevices();
+		Assertions.assertNotSame(withoutId, this.withoutId(this.communicator.deliverAggregatedDevices(null)));
+	}
+
+	@Test
+	void testAllDevicesAreDeliveredWithoutDeltaDelivery() {
+		this.communicator.refreshAggregatedDevices();
+		Assertions.assertEquals(2, this.communicator.deliverAggregatedDevices(null).size());
+		this.communicator.refreshAggregatedDevices();
+		Assertions.assertEquals(2, this.communicator.deliverAggregatedDevices(null).size());
+	}
+
+	@Test
+	void testDeltaDeliverySelectsChangedDevices() {
+		this.communicator.setDeltaDelivery(true);
+		this.communicator.refreshAggregatedDevices();
+		Assertions.assertEquals(Set.of("a", "b"), deviceIds(this.communicator.deliverAggregatedDevices(null)), "The first delivery is a full one");
+
+		this.communicator.refreshAggregatedDevices();
+		Assertions.assertTrue(this.communicator.deliverAggregatedDevices(null).isEmpty());
+
+		this.communicator.getDevices().get(1).setName("Huddle");
+		this.communicator.refreshAggregatedDevices();
+		Assertions.assertEquals(Set.of("b"), deviceIds(this.communicator.deliverAggregatedDevices(null)));
+		Assertions.assertTrue(this.communicator.deliverAggregatedDevices(null).isEmpty());
+	}
+
+	@Test
+	void testDeltaDeliveryDetectsInPlaceChanges() {
+		this.communicator.setDeltaDelivery(true);
+		this.communicator.refreshAggregatedDevices();
+		AggregatedDevice device = this.communicator.deliverAggregatedDevices(null).get(0);
+
+		device.getProperties().put("Settings#Apply", "");
+		Assertions.assertEquals(List.of(device), this.communicator.deliverAggregatedDevices(null));
+		device.getProperties().remove("Settings#Apply");
+		Assertions.assertEquals(List.of(device), this.communicator.deliverAggregatedDevices(null));
+		Assertions.assertTrue(this.communicator.deliverAggregatedDevices(null).isEmpty());
+	}
+
+	@Test
+	void testDeltaDeliveryDeliversDevicesWithoutId() {
+		this.communicator.setDeltaDelivery(true);
+		this.communicator.getDevices().add(device(null, "Panacast Control"));
+		this.communicator.refreshAggregatedDevices();
+		Assertions.assertEquals(3, this.communicator.deliverAggregatedDevices(null).size());
+
+		this.communicator.refreshAggregatedDevices();
+		List<AggregatedDevice> delivered = this.communicator.deliverAggregatedDevices(null);
+		Assertions.assertEquals(1, delivered.size());
+		Assertions.assertNull(delivered.get(0).getDeviceId());
+	}
+
+	@Test
+	void testPeriodicFullDelivery() throws InterruptedException {
+		this.communicator.setDeltaDelivery(true);
+		this.communicator.setFullDeliveryInterval(100L);
+		this.communicator.refreshAggregatedDevices();
+		Assertions.assertEquals(2, this.communicator.deliverAggregatedDevices(null).size());
+		Assertions.assertTrue(this.communicator.deliverAggregatedDevices(null).isEmpty());
+
+		Thread.sleep(150L);
+		Assertions.assertEquals(2, this.communicator.deliverAggregatedDevices(null).size());
+		Assertions.assertTrue(this.communicator.deliverAggregatedDevices(null).isEmpty());
+	}
+
+	@Test
+	void testRequestedDevicesAreAlwaysDelivered() {
+		this.communicator.setDeltaDelivery(true);
+		this.communicator.refreshAggregatedDevices();
+		this.communicator.deliverAggregatedDevices(null);
+
+		Assertions.assertEquals(Set.of("b"), deviceIds(this.communicator.deliverAggregatedDevices(Set.of("b", "unknown"))));
+		Assertions.assertEquals(Set.of("b"), deviceIds(this.communicator.deliverAggregatedDevices(Set.of("b"))));
+
+		this.communicator.getDevices().get(1).setName("Huddle");
+		this.communicator.refreshAggregatedDevices();
+		Assertions.assertEquals(Set.of("b"), deviceIds(this.communicator.deliverAggregatedDevices(Set.of("b"))));
+		Assertions.assertTrue(this.communicator.deliverAggregatedDevices(null).isEmpty(), "Requested deliveries record the delivered state");
+	}
+
+	/**
+	 * Refreshes the aggregated devices and delivers them, without delta delivery.
+	 *
+	 * @return delivered aggregated devices by device ID
+	 */
+	private Map<String, AggregatedDevice> refresh() {
+		this.communicator.refreshAggregatedDevices();
+		return this.communicator.deliverAggregatedDevices(null).stream()
+				.collect(Collectors.toMap(AggregatedDevice::getDeviceId, aggregatedDevice -> aggregatedDevice));
+	}
+
+	private AggregatedDevice withoutId(List<AggregatedDevice> aggregatedDevices) {
+		return aggregatedDevices.stream().filter(aggregatedDevice -> aggregatedDevice.getDeviceId() == null).findFirst().orElseThrow();
+	}
+
+	private static Set<String> deviceIds(List<AggregatedDevice> aggregatedDevices) {
+		return aggregatedDevices.stream().map(AggregatedDevice::getDeviceId).collect(Collectors.toSet());
+	}
+
+	private static Device device(String id, String productName) {
+		Device device = new Device();
+		device.setId(id);
+		device.setProductName(productName);
+		device.setDeviceConnectionStatus("Online");
+		return device;
+	}
+
+	private static Setting setting(String name, boolean value) {
+		Setting setting = new Setting();
+		setting.setName(name);
+		setting.setType(SettingType.TOGGLE);
+		setting.setValue(value);
+		return setting;
+	}
+}
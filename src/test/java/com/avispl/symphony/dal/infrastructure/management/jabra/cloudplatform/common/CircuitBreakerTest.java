@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link CircuitBreaker} class.
+ *
+ * @author Symphony Dev Team
+ * @since 1.2.0
+ */
+@Tag("Mock")
+class CircuitBreakerTest {
+	private static final long OPEN_DURATION_MS = 1000L;
+
+	private final AtomicLong clock = new AtomicLong(100000L);
+	private CircuitBreaker circuitBreaker;
+
+	@BeforeEach
+	void setUp() {
+		this.circuitBreaker = new CircuitBreaker(3, OPEN_DURATION_MS, this.clock::get);
+	}
+
+	@Test
+	void testOpensAfterConsecutiveFailures() {
+		this.fail(2);
+		Assertions.assertEquals(CircuitBreaker.State.CLOSED, this.circuitBreaker.getState());
+		Assertions.assertTrue(this.circuitBreaker.allow());
+
+		this.fail(1);
+		Assertions.assertEquals(CircuitBreaker.State.OPEN, this.circuitBreaker.getState());
+		Assertions.assertFalse(this.circuitBreaker.allow());
+		Assertions.assertFalse(this.circuitBreaker.allow());
+		Assertions.assertEquals(2, this.circuitBreaker.getShortCircuitedRequests());
+	}
+
+	@Test
+	void testSuccessResetsConsecutiveFailures() {
+		this.fail(2);
+		this.circuitBreaker.recordSuccess();
+		this.fail(2);
+		Assertions.assertEquals(CircuitBreaker.State.CLOSED, this.circuitBreaker.getState());
+		Assertions.assertTrue(this.circuitBreaker.allow());
+	}
+
+	@Test
+	void testHalfOpenLetsSingleProbeThrough() {
+		this.fail(3);
+		this.clock.addAndGet(OPEN_DURATION_MS - 1);
+		Assertions.assertFalse(this.circuitBreaker.allow());
+
+		this.clock.addAndGet(1);
+		Assertions.assertEquals(CircuitBreaker.State.HALF_OPEN, this.circuitBreaker.getState());
+		Assertions.assertTrue(this.circuitBreaker.allow());
+		Assertions.assertFalse(this.circuitBreaker.allow());
+		Assertions.assertFalse(this.circuitBreaker.allow());
+		Assertions.assertEquals(3, this.circuitBreaker.getShortCircuitedRequests());
+	}
+
+	@Test
+	void testSuccessfulProbeClosesBreaker() {
+		this.fail(3);
+		this.clock.addAndGet(OPEN_DURATION_MS);
+		Assertions.assertTrue(this.circuitBreaker.allow());
+		this.circuitBreaker.recordSuccess();
+
+		Assertions.assertEquals(CircuitBreaker.State.CLOSED, this.circuitBreaker.getState());
+		Assertions.assertTrue(this.circuitBreaker.allow());
+		Assertions.assertTrue(this.circuitBreaker.allow());
+	}
+
+	@Test
+	void testFailedProbeReopensBreaker() {
+		this.fail(3);
+		this.clock.addAndGet(OPEN_DURATION_MS);
+		Assertions.assertTrue(this.circuitBreaker.allow());
+		this.circuitBreaker.recordFailure();
+
+		Assertions.assertEquals(CircuitBreaker.State.OPEN, this.circuitBreaker.getState());
+		Assertions.assertFalse(this.circuitBreaker.allow());
+		this.clock.addAndGet(OPEN_DURATION_MS);
+		Assertions.assertTrue(this.circuitBreaker.allow());
+	}
+
+	@Test
+	void testUnrecordedProbeIsReplacedAfterOpenDuration() {
+		this.fail(3);
+		this.clock.addAndGet(OPEN_DURATION_MS);
+		Assertions.assertTrue(this.circuitBreaker.allow());
+		this.clock.addAndGet(OPEN_DURATION_MS - 1);
+		Assertions.assertFalse(this.circuitBreaker.allow());
+
+		this.clock.addAndGet(1);
+		Assertions.assertTrue(this.circuitBreaker.allow());
+		Assertions.assertFalse(this.circuitBreaker.allow());
+	}
+
+	private void fail(int times) {
+		for (int i = 0; i < times; i++) {
+			this.circuitBreaker.recordFailure();
+		}
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common;
+
+import java.net.URI;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.data.JabraCloudRequestInterceptor;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.types.adapter.EndpointFamily;
+
+/**
+ * Unit tests for the {@link CircuitBreakers} class, recording the outcome of requests through the {@link JabraCloudRequestInterceptor}.
+ *
+ * @author Symphony Dev Team
+ * @since 1.2.0
+ */
+@Tag("Mock")
+class CircuitBreakersTest {
+	private static final String CUSTOM_VALUESPACE_URL = "https://valuespaces.example.com/jabra/2f1c/v2.json";
+
+	private final CircuitBreakers circuitBreakers = new CircuitBreakers(1, 60000L);
+
+	@Test
+	void testFamilyIsDefinedByPath() {
+		Assertions.assertEquals(EndpointFamily.DEVICES, this.circuitBreakers.getFamily("/devices/api/devices"));
+		Assertions.assertEquals(EndpointFamily.DEVICE_SETTINGS, this.circuitBreakers.getFamily("/devices/api/devices/a1/settings"));
+		Assertions.assertEquals(EndpointFamily.ROOMS, this.circuitBreakers.getFamily("/meetingrooms/api/meetingrooms/g1"));
+		Assertions.assertNull(this.circuitBreakers.getFamily(URI.create(CUSTOM_VALUESPACE_URL).getPath()));
+	}
+
+	@Test
+	void testTaggedFamilyOverridesPath() throws Exception {
+		EndpointFamily family = this.circuitBreakers.execute(EndpointFamily.VALUESPACE, () -> this.circuitBreakers.getFamily("/devices/api/devices"));
+		Assertions.assertEquals(EndpointFamily.VALUESPACE, family);
+		Assertions.assertEquals(EndpointFamily.DEVICES, this.circuitBreakers.getFamily("/devices/api/devices"), "The tag is removed after the request");
+	}
+
+	@Test
+	void testTagIsRemovedAfterFailedRequest() {
+		Assertions.assertThrows(IllegalStateException.class, () -> this.circuitBreakers.execute(EndpointFamily.VALUESPACE, () -> {
+			throw new IllegalStateException("Valuespace download failed");
+		}));
+		Assertions.assertNull(this.circuitBreakers.getFamily(URI.create(CUSTOM_VALUESPACE_URL).getPath()));
+	}
+
+	@Test
+	void testTaggedValuespaceRequestWithCustomUrlOpensBreaker() throws Exception {
+		JabraCloudRequestInterceptor interceptor = new JabraCloudRequestInterceptor();
+		interceptor.setCircuitBreakers(this.circuitBreakers);
+
+		this.executeFailingRequest(interceptor);
+		Assertions.assertEquals(CircuitBreaker.State.CLOSED, this.circuitBreakers.get(EndpointFamily.VALUESPACE).getState(),
+				"An untagged request of an unknown path is not recorded");
+
+		this.circuitBreakers.execute(EndpointFamily.VALUESPACE, () -> this.executeFailingRequest(interceptor));
+		Assertions.assertEquals(CircuitBreaker.State.OPEN, this.circuitBreakers.get(EndpointFamily.VALUESPACE).getState());
+		Assertions.assertFalse(this.circuitBreakers.allow(EndpointFamily.VALUESPACE));
+		Assertions.assertTrue(this.circuitBreakers.allow(EndpointFamily.DEVICES));
+	}
+
+	/**
+	 * Executes a GET request of {@link #CUSTOM_VALUESPACE_URL} through the interceptor, answered with 503 (Service Unavailable).
+	 */
+	private HttpStatus executeFailingRequest(JabraCloudRequestInterceptor interceptor) throws Exception {
+		MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, URI.create(CUSTOM_VALUESPACE_URL));
+		try (ClientHttpResponse response = interceptor.intercept(request, new byte[0],
+				(executedRequest, body) -> new MockClientHttpResponse(new byte[0], HttpStatus.SERVICE_UNAVAILABLE))) {
+			return HttpStatus.valueOf(response.getStatusCode().value());
+		}
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link NegativeCache} class.
+ *
+ * @author Symphony Dev Team
+ * @since 1.2.0
+ */
+@Tag("Mock")
+class NegativeCacheTest {
+	private static final long TTL_MS = 1000L;
+	private static final String KEY = "https://cdn.jabra.com/valuespace/1";
+
+	private final AtomicLong clock = new AtomicLong(100000L);
+	private final NegativeCache<String> negativeCache = new NegativeCache<>(TTL_MS, this.clock::get);
+
+	@Test
+	void testUnknownKeyIsNotBlocked() {
+		Assertions.assertFalse(this.negativeCache.isBlocked(KEY));
+		Assertions.assertEquals(0, this.negativeCache.getSkippedLookups());
+	}
+
+	@Test
+	void testFailureBlocksKeyForTtl() {
+		Assertions.assertEquals(TTL_MS, this.negativeCache.recordFailure(KEY));
+		Assertions.assertTrue(this.negativeCache.isBlocked(KEY));
+		this.clock.addAndGet(TTL_MS - 1);
+		Assertions.assertTrue(this.negativeCache.isBlocked(KEY));
+		Assertions.assertEquals(2, this.negativeCache.getSkippedLookups());
+
+		this.clock.addAndGet(1);
+		Assertions.assertFalse(this.negativeCache.isBlocked(KEY));
+		Assertions.assertEquals(0, this.negativeCache.getBlockedCount());
+	}
+
+	@Test
+	void testConsecutiveFailuresDoubleBlockingTime() {
+		long[] expected = { TTL_MS, 2 * TTL_MS, 4 * TTL_MS, 8 * TTL_MS, 16 * TTL_MS, 32 * TTL_MS, 32 * TTL_MS, 32 * TTL_MS };
+		for (long blockMs : expected) {
+			Assertions.assertEquals(blockMs, this.negativeCache.recordFailure(KEY));
+			this.clock.addAndGet(blockMs);
+			Assertions.assertFalse(this.negativeCache.isBlocked(KEY));
+		}
+	}
+
+	@Test
+	void testSuccessResetsBackoff() {
+		this.negativeCache.recordFailure(KEY);
+		this.negativeCache.recordFailure(KEY);
+		this.negativeCache.recordSuccess(KEY);
+		Assertions.assertFalse(this.negativeCache.isBlocked(KEY));
+		Assertions.assertEquals(TTL_MS, this.negativeCache.recordFailure(KEY));
+	}
+
+	@Test
+	void testKeysAreBlockedIndependently() {
+		this.negativeCache.recordFailure(KEY);
+		this.clock.addAndGet(TTL_MS / 2);
+		this.negativeCache.recordFailure("other");
+		Assertions.assertEquals(2, this.negativeCache.getBlockedCount());
+
+		this.clock.addAndGet(TTL_MS / 2);
+		Assertions.assertFalse(this.negativeCache.isBlocked(KEY));
+		Assertions.assertTrue(this.negativeCache.isBlocked("other"));
+		Assertions.assertEquals(1, this.negativeCache.getBlockedCount());
+	}
+}
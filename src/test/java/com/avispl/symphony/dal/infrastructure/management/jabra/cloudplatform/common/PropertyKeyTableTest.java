@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.bases.BaseProperty;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common.constants.Constant;
+
+/**
+ * Unit tests for the {@link PropertyKeyTable} class.
+ *
+ * @author Symphony Dev Team
+ * @since 1.2.0
+ */
+@Tag("Mock")
+class PropertyKeyTableTest {
+	private static final String GROUP = "Room_Huddle";
+
+	@Test
+	void testGroupedKeys() {
+		PropertyKeyTable<TestProperty> table = PropertyKeyTable.of(TestProperty.class, GROUP);
+		Assertions.assertEquals(GROUP, table.getGroupName());
+		Assertions.assertEquals("Room_Huddle#Name", table.getKey(TestProperty.NAME));
+		Assertions.assertEquals("Room_Huddle#SeatCount", table.getKey(TestProperty.SEAT_COUNT));
+		Assertions.assertSame(table.getKey(TestProperty.NAME), PropertyKeyTable.of(TestProperty.class, GROUP).getKey(TestProperty.NAME),
+				"Grouped keys are interned");
+	}
+
+	@Test
+	void testUngroupedKeys() {
+		PropertyKeyTable<TestProperty> table = PropertyKeyTable.of(TestProperty.class, null);
+		Assertions.assertNull(table.getGroupName());
+		Assertions.assertEquals("Name", table.getKey(TestProperty.NAME));
+		Assertions.assertEquals("SeatCount", table.getKey(TestProperty.SEAT_COUNT));
+	}
+
+	@Test
+	void testGenerate() {
+		PropertyKeyTable<TestProperty> table = PropertyKeyTable.of(TestProperty.class, GROUP);
+		Map<String, String> properties = table.generate(property -> property == TestProperty.NAME ? "Huddle" : null);
+		Assertions.assertEquals(Map.of("Room_Huddle#Name", "Huddle", "Room_Huddle#SeatCount", Constant.NOT_AVAILABLE), properties);
+	}
+
+	@Test
+	void testGenerateReturnsNewMap() {
+		PropertyKeyTable<TestProperty> table = PropertyKeyTable.of(TestProperty.class, null);
+		Map<String, String> first = table.generate(TestProperty::getName);
+		first.put("Other", "value");
+		Assertions.assertEquals(Map.of("Name", "Name", "SeatCount", "SeatCount"), table.generate(TestProperty::getName));
+	}
+
+	/**
+	 * Property enum used to build the tested tables.
+	 */
+	private enum TestProperty implements BaseProperty {
+		NAME("Name"),
+		SEAT_COUNT("SeatCount");
+
+		private final String name;
+
+		TestProperty(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public String getName() {
+			return this.name;
+		}
+	}
+}
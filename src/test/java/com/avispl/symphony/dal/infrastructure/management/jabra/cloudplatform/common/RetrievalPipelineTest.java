@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.IntervalSetting;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.types.adapter.RetrievalType;
+
+/**
+ * Unit tests for the {@link RetrievalPipeline} class, using an interval which is always valid and short minimum periods.
+ *
+ * @author Symphony Dev Team
+ * @since 1.2.0
+ */
+@Tag("Mock")
+class RetrievalPipelineTest {
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+	private final List<Long> executions = new CopyOnWriteArrayList<>();
+	private final AtomicBoolean active = new AtomicBoolean(true);
+	private final AtomicLong deferralMs = new AtomicLong();
+
+	@AfterEach
+	void destroy() {
+		this.scheduler.shutdownNow();
+	}
+
+	@Test
+	void testExecutionsAreSpacedByMinPeriod() throws InterruptedException {
+		RetrievalPipeline pipeline = this.createPipeline(100L);
+		pipeline.schedule();
+		this.awaitExecutions(3);
+
+		for (int i = 1; i < this.executions.size(); i++) {
+			long spacingMs = this.executions.get(i) - this.executions.get(i - 1);
+			Assertions.assertTrue(spacingMs >= 95, "Executions are at least a minimum period apart: " + spacingMs);
+		}
+		Assertions.assertTrue(pipeline.getLastPublishedTimestamp() > 0);
+		Assertions.assertFalse(pipeline.isInFlight());
+	}
+
+	@Test
+	void testSetNextCollectionTimeWakesUpPipeline() throws InterruptedException {
+		RetrievalPipeline pipeline = this.createPipeline(60000L);
+		pipeline.schedule();
+		this.awaitExecutions(1);
+		TimeUnit.MILLISECONDS.sleep(50);
+		Assertions.assertEquals(1, this.executions.size(), "The next execution waits for the minimum period");
+
+		long wakeUp = System.currentTimeMillis();
+		pipeline.setNextCollectionTime(wakeUp);
+		this.awaitExecutions(2);
+		Assertions.assertTrue(this.executions.get(1) - wakeUp < 1000);
+	}
+
+	@Test
+	void testInactivePipelineIsSuspended() throws InterruptedException {
+		this.active.set(false);
+		RetrievalPipeline pipeline = this.createPipeline(0L);
+		pipeline.schedule();
+		TimeUnit.MILLISECONDS.sleep(100);
+		Assertions.assertTrue(this.executions.isEmpty());
+
+		this.active.set(true);
+		pipeline.setNextCollectionTime(System.currentTimeMillis());
+		this.awaitExecutions(1);
+	}
+
+	@Test
+	void testPausedApiDefersExecution() throws InterruptedException {
+		this.deferralMs.set(150L);
+		RetrievalPipeline pipeline = this.createPipeline(60000L);
+		long start = System.currentTimeMillis();
+		pipeline.schedule();
+		TimeUnit.MILLISECONDS.sleep(50);
+		this.deferralMs.set(0L);
+
+		this.awaitExecutions(1);
+		Assertions.assertTrue(this.executions.get(0) - start >= 140, "The execution is deferred while the API is paused");
+	}
+
+	@Test
+	void testCancelStopsPipeline() throws InterruptedException {
+		RetrievalPipeline pipeline = this.createPipeline(100L);
+		pipeline.schedule();
+		this.awaitExecutions(1);
+		pipeline.cancel();
+		TimeUnit.MILLISECONDS.sleep(250);
+		Assertions.assertEquals(1, this.executions.size());
+	}
+
+	private RetrievalPipeline createPipeline(long minPeriodMs) {
+		IntervalSetting interval = new IntervalSetting() {
+			@Override
+			public boolean isValid() {
+				return true;
+			}
+
+			@Override
+			public long getRemainingMs() {
+				return 0L;
+			}
+		};
+		return new RetrievalPipeline(RetrievalType.DEVICES, interval, this.scheduler, this.active::get, () -> minPeriodMs, this.deferralMs::get,
+				() -> this.executions.add(System.currentTimeMillis()));
+	}
+
+	/**
+	 * Waits until the task was executed the given number of times.
+	 */
+	private void awaitExecutions(int count) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (this.executions.size() < count && System.currentTimeMillis() < deadline) {
+			TimeUnit.MILLISECONDS.sleep(5);
+		}
+		Assertions.assertTrue(this.executions.size() >= count, "Expected executions: " + count + ", actual: " + this.executions.size());
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link RetryAfterGate} class, using short pauses.
+ *
+ * @author Symphony Dev Team
+ * @since 1.2.0
+ */
+@Tag("Mock")
+class RetryAfterGateTest {
+	private static final String HOST = "api.jabra.com";
+
+	private final RetryAfterGate gate = new RetryAfterGate();
+
+	@Test
+	void testHostIsOpenByDefault() throws InterruptedException {
+		Assertions.assertEquals(0, this.gate.getRemainingPauseMs(HOST));
+		Assertions.assertEquals(0, this.gate.getRemainingPauseMs(null));
+		long start = System.nanoTime();
+		this.gate.awaitOpen(HOST);
+		Assertions.assertTrue(elapsedMs(start) < 50);
+		Assertions.assertEquals(0, this.gate.getActivations());
+	}
+
+	@Test
+	void testAwaitOpenParksUntilDeadline() throws InterruptedException {
+		this.gate.pause(HOST, 150);
+		long remaining = this.gate.getRemainingPauseMs(HOST);
+		Assertions.assertTrue(remaining > 100 && remaining <= 150);
+
+		long start = System.nanoTime();
+		this.gate.awaitOpen(HOST);
+		Assertions.assertTrue(elapsedMs(start) >= 100);
+		Assertions.assertEquals(0, this.gate.getRemainingPauseMs(HOST));
+	}
+
+	@Test
+	void testPauseIsPerHost() {
+		this.gate.pause(HOST, 1000);
+		Assertions.assertTrue(this.gate.getRemainingPauseMs(HOST) > 0);
+		Assertions.assertEquals(0, this.gate.getRemainingPauseMs("cdn.jabra.com"));
+	}
+
+	@Test
+	void testPauseIsExtendedNeverShortened() {
+		this.gate.pause(HOST, 1000);
+		this.gate.pause(HOST, 100);
+		Assertions.assertTrue(this.gate.getRemainingPauseMs(HOST) > 500);
+		Assertions.assertEquals(1, this.gate.getActivations());
+
+		this.gate.pause(HOST, 2000);
+		Assertions.assertTrue(this.gate.getRemainingPauseMs(HOST) > 1500);
+		Assertions.assertEquals(1, this.gate.getActivations(), "Extending an active pause is not a new activation");
+		long pausedTimeMs = this.gate.getPausedTimeMs();
+		Assertions.assertTrue(pausedTimeMs >= 2000 && pausedTimeMs < 2100, "Overlapping pauses are counted once: " + pausedTimeMs);
+	}
+
+	@Test
+	void testExpiredPauseIsNewActivation() throws InterruptedException {
+		this.gate.pause(HOST, 20);
+		TimeUnit.MILLISECONDS.sleep(40);
+		this.gate.pause(HOST, 20);
+		Assertions.assertEquals(2, this.gate.getActivations());
+		Assertions.assertEquals(40, this.gate.getPausedTimeMs());
+	}
+
+	@Test
+	void testDeferrals() {
+		this.gate.recordDeferral();
+		this.gate.recordDeferral();
+		Assertions.assertEquals(2, this.gate.getDeferrals());
+	}
+
+	private static long elapsedMs(long startNanos) {
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link SettingsPollingTiers} class.
+ *
+ * @author Symphony Dev Team
+ * @since 1.2.0
+ */
+@Tag("Mock")
+class SettingsPollingTiersTest {
+	private static final int COLD_TIER_MULTIPLIER = 4;
+	private static final String DEVICE_ID = "device-1";
+	private static final String FIRMWARE = "1.0.0";
+
+	private final SettingsPollingTiers tiers = new SettingsPollingTiers(COLD_TIER_MULTIPLIER);
+
+	@Test
+	void testNewDeviceIsHot() {
+		for (int i = 0; i < 10; i++) {
+			Assertions.assertTrue(this.tiers.isDue(DEVICE_ID, FIRMWARE, true));
+		}
+		Assertions.assertEquals(0, this.tiers.getColdDevicesCount());
+	}
+
+	@Test
+	void testStableDeviceMovesToColdTier() {
+		this.makeCold();
+		Assertions.assertEquals(1, this.tiers.getColdDevicesCount());
+		for (int sweep = 1; sweep <= 2 * COLD_TIER_MULTIPLIER; sweep++) {
+			Assertions.assertEquals(sweep % COLD_TIER_MULTIPLIER == 0, this.tiers.isDue(DEVICE_ID, FIRMWARE, true), "Sweep " + sweep);
+		}
+	}
+
+	@Test
+	void testChangedSettingsPromoteDevice() {
+		this.makeCold();
+		this.tiers.recordPoll(DEVICE_ID, true);
+		Assertions.assertEquals(0, this.tiers.getColdDevicesCount());
+		Assertions.assertTrue(this.tiers.isDue(DEVICE_ID, FIRMWARE, true));
+	}
+
+	@Test
+	void testFirmwareChangePromotesDevice() {
+		this.makeCold();
+		Assertions.assertTrue(this.tiers.isDue(DEVICE_ID, "2.0.0", true));
+		Assertions.assertEquals(0, this.tiers.getColdDevicesCount());
+	}
+
+	@Test
+	void testReconnectionPromotesDevice() {
+		this.makeCold();
+		Assertions.assertFalse(this.tiers.isDue(DEVICE_ID, FIRMWARE, false));
+		Assertions.assertTrue(this.tiers.isDue(DEVICE_ID, FIRMWARE, true));
+		Assertions.assertEquals(0, this.tiers.getColdDevicesCount());
+	}
+
+	@Test
+	void testExplicitPromotion() {
+		this.makeCold();
+		this.tiers.promote(DEVICE_ID);
+		Assertions.assertTrue(this.tiers.isDue(DEVICE_ID, FIRMWARE, true));
+		Assertions.assertEquals(0, this.tiers.getColdDevicesCount());
+	}
+
+	@Test
+	void testRetainRemovesUnknownDevices() {
+		this.makeCold();
+		this.tiers.retain(Set.of("device-2"));
+		Assertions.assertEquals(0, this.tiers.getColdDevicesCount());
+		Assertions.assertTrue(this.tiers.isDue(DEVICE_ID, FIRMWARE, true));
+	}
+
+	@Test
+	void testMultiplierIsAtLeastOne() {
+		SettingsPollingTiers everySweep = new SettingsPollingTiers(0);
+		for (int i = 0; i < 5; i++) {
+			Assertions.assertTrue(everySweep.isDue(DEVICE_ID, FIRMWARE, true));
+			everySweep.recordPoll(DEVICE_ID, false);
+		}
+		Assertions.assertEquals(1, everySweep.getColdDevicesCount());
+	}
+
+	/**
+	 * Polls the device without settings changes until it is moved to the cold tier.
+	 */
+	private void makeCold() {
+		for (int i = 0; i < 3; i++) {
+			Assertions.assertTrue(this.tiers.isDue(DEVICE_ID, FIRMWARE, true));
+			this.tiers.recordPoll(DEVICE_ID, false);
+		}
+	}
+}
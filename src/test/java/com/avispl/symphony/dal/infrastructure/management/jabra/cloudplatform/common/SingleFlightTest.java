@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link SingleFlight} class.
+ *
+ * @author Symphony Dev Team
+ * @since 1.2.0
+ */
+@Tag("Mock")
+class SingleFlightTest {
+	private static final int FOLLOWERS = 4;
+
+	private final Map<String, String> cache = new ConcurrentHashMap<>();
+	private final SingleFlight<String, String> singleFlight = new SingleFlight<>(this.cache);
+	private final ExecutorService executor = Executors.newFixedThreadPool(FOLLOWERS + 1);
+
+	@AfterEach
+	void destroy() {
+		this.executor.shutdownNow();
+	}
+
+	@Test
+	void testCachedValueIsNotLoaded() throws Exception {
+		this.cache.put("key", "cached");
+		Assertions.assertEquals("cached", this.singleFlight.get("key", () -> Assertions.fail("Loader must not be called")));
+		Assertions.assertEquals(1, this.singleFlight.getHits());
+		Assertions.assertEquals(0, this.singleFlight.getMisses());
+	}
+
+	@Test
+	void testLoadedValueIsCached() throws Exception {
+		Assertions.assertEquals("loaded", this.singleFlight.get("key", () -> "loaded"));
+		Assertions.assertEquals("loaded", this.cache.get("key"));
+		Assertions.assertEquals("loaded", this.singleFlight.get("key", () -> "reloaded"));
+		Assertions.assertEquals(1, this.singleFlight.getMisses());
+		Assertions.assertEquals(1, this.singleFlight.getHits());
+	}
+
+	@Test
+	void testNullValueIsNotCached() throws Exception {
+		Assertions.assertNull(this.singleFlight.get("key", () -> null));
+		Assertions.assertFalse(this.cache.containsKey("key"));
+		Assertions.assertEquals("loaded", this.singleFlight.get("key", () -> "loaded"));
+		Assertions.assertEquals(2, this.singleFlight.getMisses());
+	}
+
+	@Test
+	void testConcurrentLoadsAreCoalesced() throws Exception {
+		AtomicInteger loads = new AtomicInteger();
+		CountDownLatch release = new CountDownLatch(1);
+		List<Future<String>> results = this.startConcurrentLoads(() -> {
+			loads.incrementAndGet();
+			release.await();
+			return "loaded";
+		});
+		release.countDown();
+
+		for (Future<String> result : results) {
+			Assertions.assertEquals("loaded", result.get(5, TimeUnit.SECONDS));
+		}
+		Assertions.assertEquals(1, loads.get());
+		Assertions.assertEquals(1, this.singleFlight.getMisses());
+		Assertions.assertEquals(FOLLOWERS, this.singleFlight.getCoalesced());
+	}
+
+	@Test
+	void testLoadFailureIsSharedWithWaitingCallers() throws Exception {
+		IOException failure = new IOException("Valuespace download failed");
+		CountDownLatch release = new CountDownLatch(1);
+		List<Future<String>> results = this.startConcurrentLoads(() -> {
+			release.await();
+			throw failure;
+		});
+		release.countDown();
+
+		for (Future<String> result : results) {
+			ExecutionException e = Assertions.assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+			Assertions.assertSame(failure, e.getCause());
+		}
+		Assertions.assertFalse(this.cache.containsKey("key"));
+		Assertions.assertEquals("loaded", this.singleFlight.get("key", () -> "loaded"), "A failed load is not kept in flight");
+	}
+
+	/**
+	 * Starts a leader load of the key, then {@link #FOLLOWERS} concurrent loads once the leader is in flight,
+	 * and waits until all of them are coalesced into the leader load.
+	 *
+	 * @param loader loader of the leader, blocking until released by the test
+	 * @return results of the leader and the followers
+	 */
+	private List<Future<String>> startConcurrentLoads(Callable<String> loader) throws InterruptedException {
+		CountDownLatch leaderStarted = new CountDownLatch(1);
+		List<Future<String>> results = new ArrayList<>();
+		results.add(this.executor.submit(() -> this.singleFlight.get("key", () -> {
+			leaderStarted.countDown();
+			return loader.call();
+		})));
+		Assertions.assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+		for (int i = 0; i < FOLLOWERS; i++) {
+			results.add(this.executor.submit(() -> this.singleFlight.get("key", () -> Assertions.fail("Follower must not load"))));
+		}
+		long deadline = System.currentTimeMillis() + 5000;
+		while (this.singleFlight.getCoalesced() < FOLLOWERS && System.currentTimeMillis() < deadline) {
+			TimeUnit.MILLISECONDS.sleep(5);
+		}
+		return results;
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link TokenBucketRateLimiter} class, using short intervals: 20 permits per second, one permit every 50 ms.
+ *
+ * @author Symphony Dev Team
+ * @since 1.2.0
+ */
+@Tag("Mock")
+class TokenBucketRateLimiterTest {
+	private static final double PERMITS_PER_SECOND = 20;
+
+	@Test
+	void testBurstIsServedImmediately() throws InterruptedException {
+		TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(PERMITS_PER_SECOND, 3);
+		long start = System.nanoTime();
+		for (int i = 0; i < 3; i++) {
+			limiter.acquire();
+		}
+		Assertions.assertTrue(elapsedMs(start) < 40);
+		Assertions.assertEquals(3, limiter.getAcquiredPermits());
+		Assertions.assertEquals(0, limiter.getThrottledPermits());
+		Assertions.assertEquals(0, limiter.getAverageWaitMs());
+	}
+
+	@Test
+	void testRequestsAboveBurstWaitForRefill() throws InterruptedException {
+		TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(PERMITS_PER_SECOND, 2);
+		long start = System.nanoTime();
+		for (int i = 0; i < 4; i++) {
+			limiter.acquire();
+		}
+		Assertions.assertTrue(elapsedMs(start) >= 80, "Two permits above the burst take about 100 ms");
+		Assertions.assertEquals(4, limiter.getAcquiredPermits());
+		Assertions.assertEquals(2, limiter.getThrottledPermits());
+		Assertions.assertTrue(limiter.getMaxWaitMs() >= 30);
+		Assertions.assertTrue(limiter.getTotalWaitMs() >= 80);
+	}
+
+	@Test
+	void testBucketRefillIsCappedToBurst() throws InterruptedException {
+		TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(PERMITS_PER_SECOND, 2);
+		limiter.acquire();
+		limiter.acquire();
+		TimeUnit.MILLISECONDS.sleep(300);
+		limiter.acquire();
+		limiter.acquire();
+		Assertions.assertEquals(0, limiter.getThrottledPermits());
+		limiter.acquire();
+		Assertions.assertEquals(1, limiter.getThrottledPermits());
+	}
+
+	@Test
+	void testConcurrentCallersReserveSuccessivePermits() throws InterruptedException {
+		TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(PERMITS_PER_SECOND, 1);
+		limiter.acquire();
+		long start = System.nanoTime();
+		List<Thread> threads = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			Thread thread = new Thread(() -> {
+				try {
+					limiter.acquire();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+			threads.add(thread);
+			thread.start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		Assertions.assertTrue(elapsedMs(start) >= 120, "Three reserved permits take about 150 ms");
+		Assertions.assertEquals(3, limiter.getThrottledPermits());
+		Assertions.assertTrue(limiter.getMaxWaitMs() >= 120);
+	}
+
+	private static long elapsedMs(long startNanos) {
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+	}
+}
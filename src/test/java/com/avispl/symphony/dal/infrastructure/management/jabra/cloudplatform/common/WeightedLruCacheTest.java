@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.common;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link WeightedLruCache} class, weighing each value by its length.
+ *
+ * @author Symphony Dev Team
+ * @since 1.2.0
+ */
+@Tag("Mock")
+class WeightedLruCacheTest {
+	private final WeightedLruCache<String, String> cache = new WeightedLruCache<>(10, String::length);
+
+	@Test
+	void testWeightAccounting() {
+		this.cache.put("a", "123");
+		this.cache.put("b", "1234");
+		Assertions.assertEquals(7, this.cache.getWeight());
+
+		Assertions.assertEquals("123", this.cache.put("a", "1"));
+		Assertions.assertEquals(5, this.cache.getWeight(), "Replacing a value replaces its weight");
+
+		Assertions.assertEquals("1234", this.cache.remove("b"));
+		Assertions.assertEquals(1, this.cache.getWeight());
+		Assertions.assertNull(this.cache.remove("b"));
+		Assertions.assertEquals(1, this.cache.getWeight());
+
+		this.cache.clear();
+		Assertions.assertEquals(0, this.cache.getWeight());
+		Assertions.assertTrue(this.cache.isEmpty());
+		Assertions.assertEquals(0, this.cache.getEvictions());
+	}
+
+	@Test
+	void testLeastRecentlyUsedEntriesAreEvicted() {
+		this.cache.put("a", "123");
+		this.cache.put("b", "123");
+		this.cache.put("c", "123");
+		this.cache.get("a");
+
+		this.cache.put("d", "123");
+		Assertions.assertEquals(List.of("c", "a", "d"), this.keys(), "The least recently read entry is evicted first");
+		Assertions.assertEquals(9, this.cache.getWeight());
+		Assertions.assertEquals(1, this.cache.getEvictions());
+
+		this.cache.put("e", "12345");
+		Assertions.assertEquals(List.of("d", "e"), this.keys());
+		Assertions.assertEquals(8, this.cache.getWeight());
+		Assertions.assertEquals(3, this.cache.getEvictions());
+	}
+
+	@Test
+	void testStoredEntryIsNeverEvicted() {
+		this.cache.put("a", "123");
+		this.cache.put("b", "123456789012");
+		Assertions.assertEquals(List.of("b"), this.keys(), "An entry above the limit alone is kept until the next one");
+		Assertions.assertEquals(12, this.cache.getWeight());
+
+		this.cache.put("c", "1");
+		Assertions.assertEquals(List.of("c"), this.keys());
+		Assertions.assertEquals(1, this.cache.getWeight());
+		Assertions.assertEquals(2, this.cache.getEvictions());
+	}
+
+	@Test
+	void testReplacedEntryIsNotEvicted() {
+		this.cache.put("a", "12345");
+		this.cache.put("b", "12345");
+		this.cache.put("a", "1234567");
+		Assertions.assertEquals(List.of("a"), this.keys(), "The replaced entry becomes the most recently used one");
+		Assertions.assertEquals(7, this.cache.getWeight());
+	}
+
+	@Test
+	void testSetMaxWeightShrinksCache() {
+		this.cache.put("a", "123");
+		this.cache.put("b", "123");
+		this.cache.put("c", "123");
+
+		this.cache.setMaxWeight(6);
+		Assertions.assertEquals(List.of("b", "c"), this.keys());
+		Assertions.assertEquals(6, this.cache.getWeight());
+
+		this.cache.setMaxWeight(0);
+		Assertions.assertTrue(this.cache.isEmpty(), "No entry is kept when the limit is lowered");
+		Assertions.assertEquals(0, this.cache.getWeight());
+		Assertions.assertEquals(3, this.cache.getEvictions());
+
+		this.cache.setMaxWeight(-1);
+		this.cache.put("d", "1");
+		Assertions.assertEquals(List.of("d"), this.keys(), "A negative limit is treated as zero");
+	}
+
+	@Test
+	void testEntrySetIsSnapshot() {
+		this.cache.put("a", "1");
+		this.cache.put("b", "1");
+		for (String key : this.cache.keySet()) {
+			this.cache.remove(key);
+		}
+		Assertions.assertTrue(this.cache.isEmpty());
+	}
+
+	/**
+	 * Retrieves the keys of the cache from the least to the most recently used, without changing the access order.
+	 */
+	private List<String> keys() {
+		return new ArrayList<>(this.cache.keySet());
+	}
+}
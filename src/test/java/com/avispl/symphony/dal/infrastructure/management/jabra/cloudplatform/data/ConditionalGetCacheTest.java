@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.data;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.util.StreamUtils;
+
+import com.avispl.symphony.api.common.error.NotModifiedException;
+
+/**
+ * Unit tests for the {@link ConditionalGetCache} class, driven through the {@link JabraCloudRequestInterceptor}
+ * with a mocked request execution.
+ *
+ * @author Symphony Dev Team
+ * @since 1.2.0
+ */
+@Tag("Mock")
+class ConditionalGetCacheTest {
+	private static final String ENDPOINT = "/v1/devices/a1/settings";
+	private static final String ETAG = "\"v1\"";
+	private static final String LAST_MODIFIED = "Wed, 21 Oct 2026 07:28:00 GMT";
+	private static final String BODY = "{\"settings\":{}}";
+
+	private JabraCloudRequestInterceptor interceptor;
+	private ConditionalGetCache conditionalGetCache;
+	private Deque<MockClientHttpResponse> responses;
+	private List<HttpHeaders> sentHeaders;
+
+	@BeforeEach
+	void setUp() {
+		this.interceptor = new JabraCloudRequestInterceptor();
+		this.conditionalGetCache = this.interceptor.getConditionalGetCache();
+		this.responses = new ArrayDeque<>();
+		this.sentHeaders = new ArrayList<>();
+	}
+
+	@Test
+	void testFreshResponseIsSentWithoutValidators() throws Exception {
+		this.responses.add(ok(BODY, ETAG, LAST_MODIFIED));
+
+		Assertions.assertEquals(BODY, this.fetch());
+		Assertions.assertNull(this.sentHeaders.get(0).getFirst(HttpHeaders.IF_NONE_MATCH));
+		Assertions.assertNull(this.sentHeaders.get(0).getFirst(HttpHeaders.IF_MODIFIED_SINCE));
+		Assertions.assertEquals(0, this.conditionalGetCache.getConditionalRequests());
+	}
+
+	@Test
+	void testNotModifiedResponseReturnsCachedValue() throws Exception {
+		this.responses.add(ok(BODY, ETAG, LAST_MODIFIED));
+		this.responses.add(new MockClientHttpResponse(new byte[0], HttpStatus.NOT_MODIFIED));
+
+		String first = this.fetch();
+		String second = this.fetch();
+
+		Assertions.assertSame(first, second, "The previously parsed value is returned");
+		Assertions.assertEquals(ETAG, this.sentHeaders.get(1).getFirst(HttpHeaders.IF_NONE_MATCH));
+		Assertions.assertEquals(LAST_MODIFIED, this.sentHeaders.get(1).getFirst(HttpHeaders.IF_MODIFIED_SINCE));
+		Assertions.assertEquals(1, this.conditionalGetCache.getConditionalRequests());
+		Assertions.assertEquals(1, this.conditionalGetCache.getNotModifiedResponses());
+		Assertions.assertEquals(100, this.conditionalGetCache.getNotModifiedRate());
+		Assertions.assertEquals(BODY.getBytes(StandardCharsets.UTF_8).length, this.conditionalGetCache.getBytesSaved());
+	}
+
+	@Test
+	void testModifiedResponseReplacesCachedValue() throws Exception {
+		String updatedBody = "{\"settings\":{\"autoWakeUp\":{\"isOn\":true}}}";
+		this.responses.add(ok(BODY, ETAG, null));
+		this.responses.add(ok(updatedBody, "\"v2\"", null));
+		this.responses.add(new MockClientHttpResponse(new byte[0], HttpStatus.NOT_MODIFIED));
+
+		this.fetch();
+		Assertions.assertEquals(updatedBody, this.fetch());
+		Assertions.assertEquals(updatedBody, this.fetch());
+		Assertions.assertEquals("\"v2\"", this.sentHeaders.get(2).getFirst(HttpHeaders.IF_NONE_MATCH));
+		Assertions.assertNull(this.sentHeaders.get(2).getFirst(HttpHeaders.IF_MODIFIED_SINCE));
+		Assertions.assertEquals(2, this.conditionalGetCache.getConditionalRequests());
+		Assertions.assertEquals(50, this.conditionalGetCache.getNotModifiedRate());
+		Assertions.assertEquals(updatedBody.getBytes(StandardCharsets.UTF_8).length, this.conditionalGetCache.getBytesSaved());
+	}
+
+	@Test
+	void testResponseWithoutValidatorsIsNotCached() throws Exception {
+		this.responses.add(ok(BODY, null, null));
+		this.responses.add(ok(BODY, null, null));
+
+		this.fetch();
+		this.fetch();
+		Assertions.assertNull(this.sentHeaders.get(1).getFirst(HttpHeaders.IF_NONE_MATCH));
+		Assertions.assertEquals(0, this.conditionalGetCache.getConditionalRequests());
+	}
+
+	@Test
+	void testNotModifiedWithoutCachedValueIsRethrown() {
+		this.responses.add(new MockClientHttpResponse(new byte[0], HttpStatus.NOT_MODIFIED));
+
+		Assertions.assertThrows(NotModifiedException.class, this::fetch);
+		Assertions.assertEquals(0, this.conditionalGetCache.getNotModifiedResponses());
+	}
+
+	@Test
+	void testRetainDropsOtherEntries() throws Exception {
+		this.responses.add(ok(BODY, ETAG, null));
+		this.responses.add(ok(BODY, ETAG, null));
+
+		this.fetch();
+		this.conditionalGetCache.retain(List.of("/v1/devices/b2/settings"));
+		this.fetch();
+		Assertions.assertNull(this.sentHeaders.get(1).getFirst(HttpHeaders.IF_NONE_MATCH));
+	}
+
+	/**
+	 * Executes a GET request of {@link #ENDPOINT} through the interceptor and the conditional GET cache,
+	 * reading the body the way the message converters do, and throwing {@link NotModifiedException} on a 304 response.
+	 */
+	private String fetch() throws Exception {
+		return this.conditionalGetCache.fetch(ENDPOINT, () -> {
+			MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, URI.create("https://api.jabra.com" + ENDPOINT));
+			try (ClientHttpResponse response = this.interceptor.intercept(request, new byte[0], (executedRequest, body) -> {
+				this.sentHeaders.add(executedRequest.getHeaders());
+				return this.responses.removeFirst();
+			})) {
+				if (response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+					throw new NotModifiedException("Not modified");
+				}
+				return StreamUtils.copyToString(response.getBody(), StandardCharsets.UTF_8);
+			}
+		});
+	}
+
+	private static MockClientHttpResponse ok(String body, String eTag, String lastModified) {
+		MockClientHttpResponse response = new MockClientHttpResponse(body.getBytes(StandardCharsets.UTF_8), HttpStatus.OK);
+		if (eTag != null) {
+			response.getHeaders().setETag(eTag);
+		}
+		if (lastModified != null) {
+			response.getHeaders().set(HttpHeaders.LAST_MODIFIED, lastModified);
+		}
+		return response;
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.data;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.device.Device;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.rooms.DeviceOverview;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.rooms.Room;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.rooms.RoomsSnapshot;
+
+/**
+ * Unit tests for the {@link FleetIndex} class.
+ *
+ * @author Symphony Dev Team
+ * @since 1.2.0
+ */
+@Tag("Mock")
+class FleetIndexTest {
+	private final FleetIndex fleetIndex = new FleetIndex();
+
+	@Test
+	void testPutDeviceReplacesDeviceWithSameId() {
+		Device first = device("a");
+		Device second = device("a");
+		Assertions.assertNull(this.fleetIndex.putDevice(first));
+		Assertions.assertSame(first, this.fleetIndex.putDevice(second));
+		Assertions.assertSame(second, this.fleetIndex.putDevice(device("a")));
+	}
+
+	@Test
+	void testDevicesWithoutIdAreIgnored() {
+		Assertions.assertNull(this.fleetIndex.putDevice(null));
+		Assertions.assertNull(this.fleetIndex.putDevice(device(null)));
+		Assertions.assertFalse(this.fleetIndex.retainDevices(Set.of()));
+	}
+
+	@Test
+	void testRetainDevices() {
+		this.fleetIndex.putDevices(List.of(device("a"), device("b")));
+		Assertions.assertFalse(this.fleetIndex.retainDevices(Set.of("a", "b")));
+		Assertions.assertTrue(this.fleetIndex.retainDevices(Set.of("a")));
+		Assertions.assertNull(this.fleetIndex.putDevice(device("b")), "Removed devices are indexed again as new ones");
+	}
+
+	@Test
+	void testIndexRoomsKeepsFirstOccurrence() {
+		Room first = room("room-1", "group-1");
+		Room duplicate = room("room-2", "group-1");
+		DeviceOverview overview = deviceOverview("a");
+		this.fleetIndex.indexRooms(new RoomsSnapshot(Arrays.asList(first, duplicate, room("room-3", null)),
+				Arrays.asList(overview, deviceOverview("a"), deviceOverview(null)), null, 1L));
+
+		Assertions.assertSame(first, this.fleetIndex.getRoom("group-1"));
+		Assertions.assertSame(overview, this.fleetIndex.getDeviceOverview("a"));
+		Assertions.assertTrue(this.fleetIndex.isDeviceInRoom("a"));
+		Assertions.assertFalse(this.fleetIndex.isDeviceInRoom("b"));
+		Assertions.assertNull(this.fleetIndex.getRoom(null));
+		Assertions.assertNull(this.fleetIndex.getDeviceOverview(null));
+	}
+
+	@Test
+	void testIndexRoomsReplacesPreviousSnapshot() {
+		this.fleetIndex.indexRooms(new RoomsSnapshot(List.of(room("room-1", "group-1")), List.of(deviceOverview("a")), null, 1L));
+		this.fleetIndex.indexRooms(new RoomsSnapshot(List.of(room("room-2", "group-2")), List.of(deviceOverview("b")), null, 2L));
+
+		Assertions.assertNull(this.fleetIndex.getRoom("group-1"));
+		Assertions.assertEquals("room-2", this.fleetIndex.getRoom("group-2").getId());
+		Assertions.assertFalse(this.fleetIndex.isDeviceInRoom("a"));
+		Assertions.assertTrue(this.fleetIndex.isDeviceInRoom("b"));
+	}
+
+	@Test
+	void testIndexRoomsWithoutLists() {
+		this.fleetIndex.indexRooms(new RoomsSnapshot(null, null, null, 1L));
+		Assertions.assertNull(this.fleetIndex.getRoom("group-1"));
+		Assertions.assertFalse(this.fleetIndex.isDeviceInRoom("a"));
+	}
+
+	@Test
+	void testAggregatedDevices() {
+		AggregatedDevice aggregatedDevice = aggregatedDevice("a");
+		this.fleetIndex.putAggregatedDevice(aggregatedDevice);
+		this.fleetIndex.putAggregatedDevice(aggregatedDevice(null));
+		this.fleetIndex.putAggregatedDevice(null);
+		Assertions.assertSame(aggregatedDevice, this.fleetIndex.getAggregatedDevice("a"));
+		Assertions.assertNull(this.fleetIndex.getAggregatedDevice(null));
+
+		this.fleetIndex.retainAggregatedDevices(Set.of("b"));
+		Assertions.assertNull(this.fleetIndex.getAggregatedDevice("a"));
+	}
+
+	@Test
+	void testClear() {
+		this.fleetIndex.putDevice(device("a"));
+		this.fleetIndex.putAggregatedDevice(aggregatedDevice("a"));
+		this.fleetIndex.indexRooms(new RoomsSnapshot(List.of(room("room-1", "group-1")), List.of(deviceOverview("a")), null, 1L));
+
+		this.fleetIndex.clear();
+		Assertions.assertNull(this.fleetIndex.putDevice(device("a")));
+		Assertions.assertNull(this.fleetIndex.getAggregatedDevice("a"));
+		Assertions.assertNull(this.fleetIndex.getRoom("group-1"));
+		Assertions.assertFalse(this.fleetIndex.isDeviceInRoom("a"));
+	}
+
+	private static Device device(String id) {
+		Device device = new Device();
+		device.setId(id);
+		return device;
+	}
+
+	private static Room room(String id, String groupId) {
+		Room room = new Room();
+		room.setId(id);
+		room.setGroupId(groupId);
+		return room;
+	}
+
+	private static DeviceOverview deviceOverview(String id) {
+		DeviceOverview deviceOverview = new DeviceOverview();
+		deviceOverview.setId(id);
+		return deviceOverview;
+	}
+
+	private static AggregatedDevice aggregatedDevice(String deviceId) {
+		AggregatedDevice aggregatedDevice = new AggregatedDevice();
+		aggregatedDevice.setDeviceId(deviceId);
+		return aggregatedDevice;
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.data;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.ItemsPage;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.device.Device;
+
+/**
+ * Unit tests for the {@link JabraItemsPageHttpMessageConverter} class.
+ *
+ * @author Symphony Dev Team
+ * @since 1.2.0
+ */
+@Tag("Mock")
+class JabraItemsPageHttpMessageConverterTest {
+	private static final Type DEVICES_PAGE_TYPE = new ParameterizedTypeReference<ItemsPage<Device>>() {}.getType();
+
+	private final JabraItemsPageHttpMessageConverter converter = new JabraItemsPageHttpMessageConverter();
+
+	@Test
+	void testCanRead() {
+		Assertions.assertTrue(this.converter.canRead(DEVICES_PAGE_TYPE, null, MediaType.APPLICATION_JSON));
+		Assertions.assertTrue(this.converter.canRead(DEVICES_PAGE_TYPE, null, null));
+		Assertions.assertFalse(this.converter.canRead(DEVICES_PAGE_TYPE, null, MediaType.TEXT_HTML));
+		Assertions.assertFalse(this.converter.canRead(new ParameterizedTypeReference<List<Device>>() {}.getType(), null, MediaType.APPLICATION_JSON));
+		Assertions.assertFalse(this.converter.canRead(ItemsPage.class, MediaType.APPLICATION_JSON));
+		Assertions.assertFalse(this.converter.canWrite(DEVICES_PAGE_TYPE, ItemsPage.class, MediaType.APPLICATION_JSON));
+	}
+
+	@Test
+	void testItemsAndContinuationToken() throws IOException {
+		ItemsPage<?> page = this.read("{\"items\":[{\"id\":\"a\",\"name\":\"Panacast 50\",\"unknown\":{\"x\":[1]}},{\"id\":\"b\"}],"
+				+ "\"continuationToken\":\"next\"}");
+		Assertions.assertEquals(2, page.items().size());
+		Device first = (Device) page.items().get(0);
+		Assertions.assertEquals("a", first.getId());
+		Assertions.assertEquals("Panacast 50", first.getName());
+		Assertions.assertEquals("b", ((Device) page.items().get(1)).getId());
+		Assertions.assertEquals("next", page.continuationToken());
+	}
+
+	@Test
+	void testFieldOrderAndOtherFields() throws IOException {
+		ItemsPage<?> page = this.read("{\"continuationToken\":\"next\",\"total\":{\"count\":1},\"tags\":[\"x\"],\"items\":[{\"id\":\"a\"}]}");
+		Assertions.assertEquals(1, page.items().size());
+		Assertions.assertEquals("next", page.continuationToken());
+	}
+
+	@Test
+	void testLastPage() throws IOException {
+		Assertions.assertNull(this.read("{\"items\":[],\"continuationToken\":null}").continuationToken());
+		ItemsPage<?> page = this.read("{\"items\":[{\"id\":\"a\"}]}");
+		Assertions.assertEquals(1, page.items().size());
+		Assertions.assertNull(page.continuationToken());
+	}
+
+	@Test
+	void testMissingOrInvalidItems() throws IOException {
+		Assertions.assertTrue(this.read("{}").items().isEmpty());
+		Assertions.assertTrue(this.read("{\"items\":{\"id\":\"a\"}}").items().isEmpty());
+		Assertions.assertThrows(HttpMessageNotReadableException.class, () -> this.read("[{\"id\":\"a\"}]"));
+	}
+
+	private ItemsPage<?> read(String json) throws IOException {
+		return this.converter.read(DEVICES_PAGE_TYPE, null, new MockHttpInputMessage(json.getBytes(StandardCharsets.UTF_8)));
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.data;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.mock.http.MockHttpInputMessage;
+
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.settings.Setting;
+
+/**
+ * Compares the streaming {@link JabraSettingsHttpMessageConverter} with the tree-based parsing it replaced,
+ * on device settings responses of different sizes.
+ * <p>
+ * Run with {@code mvn test-compile} followed by the {@link #main(String[])} method on the test classpath.
+ * </p>
+ *
+ * @author Symphony Dev Team
+ * @since 1.2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JabraSettingsHttpMessageConverterBenchmark {
+	private static final Type SETTINGS_TYPE = new ParameterizedTypeReference<List<Setting>>() {}.getType();
+
+	@Param({ "20", "200" })
+	private int settingsCount;
+
+	private final JabraSettingsHttpMessageConverter converter = new JabraSettingsHttpMessageConverter();
+	private byte[] body;
+
+	@Setup
+	public void setUp() {
+		StringBuilder json = new StringBuilder("{\"deviceId\":\"a1b2c3\",\"settings\":{");
+		for (int i = 0; i < settingsCount; i++) {
+			if (i > 0) {
+				json.append(',');
+			}
+			json.append("\"setting").append(i).append("\":");
+			switch (i % 4) {
+				case 0 -> json.append("{\"isOn\":true,\"isLocked\":false}");
+				case 1 -> json.append("{\"selected\":\"option").append(i).append("\",\"isLocked\":false}");
+				case 2 -> json.append("{\"value\":").append(i).append(",\"isLocked\":true}");
+				default -> json.append("{\"value\":\"text").append(i).append("\"}");
+			}
+		}
+		json.append("}}");
+		body = json.toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Benchmark
+	public List<Setting> streaming() throws IOException {
+		return converter.read(SETTINGS_TYPE, null, new MockHttpInputMessage(body));
+	}
+
+	@Benchmark
+	public List<Setting> tree() throws IOException {
+		return TreeSettingsParser.parse(new MockHttpInputMessage(body).getBody());
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(JabraSettingsHttpMessageConverterBenchmark.class.getSimpleName()).build()).run();
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.data;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.settings.Setting;
+
+/**
+ * Unit tests for the {@link JabraSettingsHttpMessageConverter} class, comparing its output with the tree-based parsing it replaced.
+ *
+ * @author Symphony Dev Team
+ * @since 1.2.0
+ */
+@Tag("Mock")
+class JabraSettingsHttpMessageConverterTest {
+	private static final Type SETTINGS_TYPE = new ParameterizedTypeReference<List<Setting>>() {}.getType();
+
+	private final JabraSettingsHttpMessageConverter converter = new JabraSettingsHttpMessageConverter();
+
+	@Test
+	void testRegularSettings() throws IOException {
+		assertSameAsTree("{\"deviceId\":\"a1\",\"settings\":{"
+				+ "\"autoWakeUp\":{\"isOn\":true,\"isLocked\":false},"
+				+ "\"videoMode\":{\"selected\":\"Standard\",\"isLocked\":false},"
+				+ "\"brightness\":{\"value\":42,\"isLocked\":true},"
+				+ "\"zoomRatio\":{\"value\":1.5},"
+				+ "\"roomName\":{\"value\":\"Huddle 1\"}}}");
+	}
+
+	@Test
+	void testMixedFieldOrder() throws IOException {
+		assertSameAsTree("{\"settings\":{"
+				+ "\"a\":{\"value\":5,\"isOn\":true},"
+				+ "\"b\":{\"value\":\"text\",\"selected\":\"option\"},"
+				+ "\"c\":{\"selected\":\"option\",\"isOn\":false},"
+				+ "\"d\":{\"value\":1,\"selected\":\"option\",\"isOn\":true},"
+				+ "\"e\":{\"isLocked\":true,\"value\":7}},"
+				+ "\"deviceId\":\"a1\"}");
+	}
+
+	@Test
+	void testNullValues() throws IOException {
+		assertSameAsTree("{\"settings\":{"
+				+ "\"a\":{\"isOn\":null},"
+				+ "\"b\":{\"selected\":null},"
+				+ "\"c\":{\"value\":null},"
+				+ "\"d\":null}}");
+	}
+
+	@Test
+	void testObjectAndArrayValues() throws IOException {
+		assertSameAsTree("{\"settings\":{"
+				+ "\"a\":{\"isOn\":{\"nested\":true}},"
+				+ "\"b\":{\"selected\":[\"x\",\"y\"]},"
+				+ "\"c\":{\"value\":{\"min\":1,\"max\":2}},"
+				+ "\"d\":{\"value\":[1,2,3]},"
+				+ "\"e\":[{\"isOn\":true}],"
+				+ "\"f\":{\"options\":[\"x\"],\"selected\":\"x\"}}}");
+	}
+
+	@Test
+	void testNonStringScalars() throws IOException {
+		assertSameAsTree("{\"settings\":{"
+				+ "\"a\":{\"isOn\":\"true\"},"
+				+ "\"b\":{\"isOn\":1},"
+				+ "\"c\":{\"isOn\":0},"
+				+ "\"d\":{\"selected\":3},"
+				+ "\"e\":{\"selected\":false},"
+				+ "\"f\":{\"value\":true},"
+				+ "\"g\":{\"value\":12345678901},"
+				+ "\"h\":{}}}");
+	}
+
+	@Test
+	void testDuplicateSettings() throws IOException {
+		assertSameAsTree("{\"settings\":{\"a\":{\"isOn\":true}},\"deviceId\":\"a1\",\"settings\":{\"b\":{\"value\":2},\"c\":{\"selected\":\"x\"}}}");
+		Assertions.assertThrows(HttpMessageNotReadableException.class, () -> stream("{\"settings\":{\"a\":{\"isOn\":true}},\"settings\":[]}"));
+	}
+
+	@Test
+	void testMissingSettings() {
+		Assertions.assertThrows(HttpMessageNotReadableException.class, () -> stream("{\"deviceId\":\"a1\"}"));
+		Assertions.assertThrows(HttpMessageNotReadableException.class, () -> stream("{\"settings\":[]}"));
+		Assertions.assertThrows(HttpMessageNotReadableException.class, () -> stream("[]"));
+	}
+
+	private void assertSameAsTree(String json) throws IOException {
+		List<Setting> expected = TreeSettingsParser.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+		List<Setting> actual = stream(json);
+		Assertions.assertEquals(expected, actual);
+		for (int i = 0; i < expected.size(); i++) {
+			Object expectedValue = expected.get(i).getValue();
+			Object actualValue = actual.get(i).getValue();
+			Assertions.assertEquals(expectedValue != null ? expectedValue.getClass() : null, actualValue != null ? actualValue.getClass() : null,
+					"Value class of " + expected.get(i).getName());
+		}
+	}
+
+	private List<Setting> stream(String json) throws IOException {
+		return converter.read(SETTINGS_TYPE, null, new MockHttpInputMessage(json.getBytes(StandardCharsets.UTF_8)));
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.data;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.settings.valuespace.SettingDescriptor;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.settings.valuespace.SettingsValuespace;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+
+/**
+ * Unit tests for the {@link JabraSettingsValuespaceHttpMessageConverter} class, comparing its output with the tree-based parsing it replaced.
+ *
+ * @author Symphony Dev Team
+ * @since 1.2.0
+ */
+@Tag("Mock")
+class JabraSettingsValuespaceHttpMessageConverterTest {
+	private static final String SETTING_IDS = "\"settingIds\":{"
+			+ "\"videoMode\":\"id-1\","
+			+ "\"roomName\":\"id-2\","
+			+ "\"brightness\":\"id-3\","
+			+ "\"zoomLimit\":\"id-4\","
+			+ "\"autoWakeUp\":\"id-6\"}";
+	private static final String SETTINGS = "\"settings\":{"
+			+ "\"toggleSettings\":[{\"settingId\":\"id-6\",\"requiresRestart\":false}],"
+			+ "\"listSettings\":["
+			+ "{\"settingId\":\"id-1\",\"requiresRestart\":true,\"supportedValues\":[\"Standard\",\"Wide\",3],\"labels\":{\"Standard\":\"S\"}},"
+			+ "{\"settingId\":\"id-5\",\"requiresRestart\":false,\"supportedValues\":[\"Unmapped\"]},"
+			+ "{\"settingId\":\"\",\"requiresRestart\":false,\"supportedValues\":[]}],"
+			+ "\"stringSettings\":["
+			+ "{\"requiresRestart\":false,\"settingId\":\"id-2\",\"minimumLength\":1,\"maximumLength\":\"64\"},"
+			+ "{\"settingId\":\"id-7\",\"requiresRestart\":false,\"minimumLength\":0,\"maximumLength\":10},"
+			+ "{\"settingId\":\"id-4\",\"requiresRestart\":false,\"minimumLength\":0}],"
+			+ "\"numberSettings\":["
+			+ "{\"settingId\":\"id-3\",\"requiresRestart\":\"true\",\"minimumValue\":-10,\"maximumValue\":10.7,\"step\":1},"
+			+ "{\"settingId\":\"id-4\",\"requiresRestart\":false,\"minimumValue\":1,\"maximumValue\":4}]}";
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	void testSettingIdsBeforeSettings() throws IOException {
+		assertSameAsTree("{\"featureModel\":\"fm-1\"," + SETTING_IDS + ",\"metadata\":{\"version\":[1,2]}," + SETTINGS + "}");
+	}
+
+	@Test
+	void testSettingIdsAfterSettings() throws IOException {
+		assertSameAsTree("{" + SETTINGS + ",\"metadata\":{\"version\":[1,2]}," + SETTING_IDS + ",\"featureModel\":\"fm-1\"}");
+	}
+
+	@Test
+	void testDescriptors() throws IOException {
+		Map<String, SettingDescriptor> descriptors = stream("{" + SETTINGS + "," + SETTING_IDS + "}").descriptors();
+		Assertions.assertEquals(new SettingDescriptor(new SettingDescriptor.DropdownValuespace(true, List.of("Standard", "Wide", "3"))), descriptors.get("videoMode"));
+		Assertions.assertEquals(new SettingDescriptor(new SettingDescriptor.TextValuespace(false, 1, 64)), descriptors.get("roomName"));
+		Assertions.assertEquals(new SettingDescriptor(new SettingDescriptor.NumberValuespace(true, -10, 10)), descriptors.get("brightness"));
+		Assertions.assertEquals(new SettingDescriptor(new SettingDescriptor.NumberValuespace(false, 1, 4)), descriptors.get("zoomLimit"));
+		Assertions.assertFalse(descriptors.containsKey("autoWakeUp"));
+	}
+
+	@Test
+	void testUnmappedSettingIdsAreDropped() throws IOException {
+		String json = "{" + SETTING_IDS + "," + SETTINGS + "}";
+		Assertions.assertTrue(tree(json).containsKey(null));
+		Assertions.assertFalse(stream(json).descriptors().containsKey(null));
+	}
+
+	@Test
+	void testMissingObjects() {
+		Assertions.assertThrows(HttpMessageNotReadableException.class, () -> stream("{" + SETTING_IDS + "}"));
+		Assertions.assertThrows(HttpMessageNotReadableException.class, () -> stream("{" + SETTINGS + "}"));
+		Assertions.assertThrows(HttpMessageNotReadableException.class, () -> stream("[]"));
+	}
+
+	/**
+	 * Asserts that the streaming converter produces the descriptors of the tree-based parsing,
+	 * except for the descriptors of unmapped setting IDs, stored under a {@code null} key by the tree-based parsing.
+	 */
+	private void assertSameAsTree(String json) throws IOException {
+		Map<String, SettingDescriptor> expected = tree(json);
+		expected.remove(null);
+		Assertions.assertEquals(expected, stream(json).descriptors());
+	}
+
+	private SettingsValuespace stream(String json) throws IOException {
+		JabraSettingsValuespaceHttpMessageConverter converter = new JabraSettingsValuespaceHttpMessageConverter(new DescriptorInterner());
+		return converter.read(SettingsValuespace.class, null, new MockHttpInputMessage(json.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	/**
+	 * Tree-based parsing of a feature model, as done before the converter was streaming.
+	 */
+	private Map<String, SettingDescriptor> tree(String json) throws IOException {
+		JsonNode root = objectMapper.readTree(json);
+		JsonNode settingsNodeRaw = root.get("settings");
+		JsonNode settingIdsRaw = root.get("settingIds");
+
+		Map<String, String> settingIdsReverse = new HashMap<>();
+		Iterator<String> jsonNodeIterator = settingIdsRaw.fieldNames();
+		while (jsonNodeIterator.hasNext()) {
+			String fieldName = jsonNodeIterator.next();
+			settingIdsReverse.put(settingIdsRaw.get(fieldName).asText(), fieldName);
+		}
+
+		Map<String, SettingDescriptor> settingDescriptorMap = new HashMap<>();
+		for (JsonNode props : (ArrayNode) settingsNodeRaw.at("/listSettings")) {
+			String settingId = props.at("/settingId").asText();
+			if (settingId == null || settingId.isEmpty()) {
+				continue;
+			}
+			List<String> supportedValues = new ArrayList<>();
+			props.at("/supportedValues").forEach(jsonNode -> supportedValues.add(jsonNode.asText()));
+			boolean requiresRestart = props.get("requiresRestart").asBoolean();
+			settingDescriptorMap.put(settingIdsReverse.get(settingId), new SettingDescriptor(new SettingDescriptor.DropdownValuespace(requiresRestart, supportedValues)));
+		}
+		for (JsonNode props : (ArrayNode) settingsNodeRaw.at("/stringSettings")) {
+			String settingId = props.at("/settingId").asText();
+			if (settingId == null || settingId.isEmpty()) {
+				continue;
+			}
+			JsonNode minLength = props.get("minimumLength");
+			JsonNode maxLength = props.get("maximumLength");
+			boolean requiresRestart = props.get("requiresRestart").asBoolean();
+			if (minLength != null && maxLength != null) {
+				settingDescriptorMap.put(settingIdsReverse.get(settingId),
+						new SettingDescriptor(new SettingDescriptor.TextValuespace(requiresRestart, minLength.asInt(), maxLength.asInt())));
+			}
+		}
+		for (JsonNode props : (ArrayNode) settingsNodeRaw.at("/numberSettings")) {
+			String settingId = props.at("/settingId").asText();
+			if (settingId == null || settingId.isEmpty()) {
+				continue;
+			}
+			JsonNode minValue = props.get("minimumValue");
+			JsonNode maxValue = props.get("maximumValue");
+			boolean requiresRestart = props.get("requiresRestart").asBoolean();
+			if (minValue != null && maxValue != null) {
+				settingDescriptorMap.put(settingIdsReverse.get(settingId),
+						new SettingDescriptor(new SettingDescriptor.NumberValuespace(requiresRestart, minValue.asInt(), maxValue.asInt())));
+			}
+		}
+		return settingDescriptorMap;
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.data;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.requests.SettingsRequest;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.requests.SettingsRequest.OptionDetail;
+
+/**
+ * Unit tests for the {@link PendingSettingsStore} class, using short expiry times.
+ *
+ * @author Symphony Dev Team
+ * @since 1.2.0
+ */
+@Tag("Mock")
+class PendingSettingsStoreTest {
+	private static final long EXPIRY_TIME_MS = 200L;
+	private static final OptionDetail ON = new OptionDetail("true", false);
+	private static final OptionDetail OFF = new OptionDetail("false", true);
+
+	private final PendingSettingsStore store = new PendingSettingsStore(EXPIRY_TIME_MS);
+
+	@Test
+	void testChangesAreMergedPerDevice() {
+		this.store.put("a", "autoWakeUp", ON);
+		SettingsRequest first = this.store.get("a");
+		this.store.put("a", "autoWakeUp", OFF);
+		this.store.put("a", "videoMode", ON);
+
+		SettingsRequest merged = this.store.get("a");
+		Assertions.assertNotSame(first, merged, "Stored requests are replaced, never modified");
+		Assertions.assertEquals(Map.of("autoWakeUp", ON), first.getSettings());
+		Assertions.assertEquals(Map.of("autoWakeUp", OFF, "videoMode", ON), this.store.getSettings("a"));
+		Assertions.assertEquals(first.getExpiryTime(), merged.getExpiryTime(), "The expiry time is set by the first change");
+		Assertions.assertTrue(this.store.getSettings("b").isEmpty());
+		Assertions.assertNull(this.store.get(null));
+	}
+
+	@Test
+	void testChangesExpireInOrder() throws InterruptedException {
+		this.store.put("a", "autoWakeUp", ON);
+		TimeUnit.MILLISECONDS.sleep(EXPIRY_TIME_MS / 2);
+		this.store.put("b", "autoWakeUp", ON);
+		this.store.put("a", "videoMode", ON);
+		Assertions.assertEquals(0, this.store.expire());
+
+		Assertions.assertEquals(1, this.awaitExpiry());
+		Assertions.assertNull(this.store.get("a"), "Later changes do not postpone the expiry");
+		Assertions.assertNotNull(this.store.get("b"));
+
+		Assertions.assertEquals(1, this.awaitExpiry());
+		Assertions.assertNull(this.store.get("b"));
+	}
+
+	@Test
+	void testStaleExpiryDoesNotRemoveNewChanges() throws InterruptedException {
+		this.store.put("a", "autoWakeUp", ON);
+		this.store.remove("a");
+		TimeUnit.MILLISECONDS.sleep(EXPIRY_TIME_MS / 2);
+		this.store.put("a", "autoWakeUp", OFF);
+
+		TimeUnit.MILLISECONDS.sleep(EXPIRY_TIME_MS / 2 + 20);
+		Assertions.assertEquals(0, this.store.expire(), "The expiry of the removed changes is discarded");
+		Assertions.assertEquals(Map.of("autoWakeUp", OFF), this.store.getSettings("a"));
+
+		Assertions.assertEquals(1, this.awaitExpiry());
+		Assertions.assertNull(this.store.get("a"));
+	}
+
+	@Test
+	void testDirtyDevices() throws InterruptedException {
+		this.store.put("a", "autoWakeUp", ON);
+		this.store.put("b", "autoWakeUp", ON);
+		Assertions.assertEquals(Set.of("a", "b"), this.store.drainDirtyDevices());
+		Assertions.assertTrue(this.store.drainDirtyDevices().isEmpty());
+
+		Assertions.assertNotNull(this.store.remove("a"));
+		Assertions.assertNull(this.store.remove("c"));
+		Assertions.assertEquals(Set.of("a"), this.store.drainDirtyDevices(), "Removing unknown changes does not mark the device dirty");
+
+		this.awaitExpiry();
+		Assertions.assertEquals(Set.of("b"), this.store.drainDirtyDevices());
+
+		this.store.markDirty("c");
+		Assertions.assertEquals(Set.of("c"), this.store.drainDirtyDevices());
+	}
+
+	@Test
+	void testClear() {
+		this.store.put("a", "autoWakeUp", ON);
+		this.store.clear();
+		Assertions.assertNull(this.store.get("a"));
+		Assertions.assertTrue(this.store.drainDirtyDevices().isEmpty());
+		Assertions.assertEquals(0, this.store.expire());
+	}
+
+	/**
+	 * Expires the pending changes until some of them expire.
+	 *
+	 * @return number of devices whose pending changes expired
+	 */
+	private int awaitExpiry() throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+		int expired;
+		while ((expired = this.store.expire()) == 0 && System.currentTimeMillis() < deadline) {
+			TimeUnit.MILLISECONDS.sleep(5);
+		}
+		return expired;
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.data;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.settings.Setting;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.settings.SettingType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Tree-based parsing of a device settings response, as done before {@link JabraSettingsHttpMessageConverter} was streaming.
+ * Used as the reference the streaming converter is tested and benchmarked against.
+ *
+ * @author Symphony Dev Team
+ * @since 1.2.0
+ */
+final class TreeSettingsParser {
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	private TreeSettingsParser() {
+	}
+
+	/**
+	 * Parses a settings response.
+	 *
+	 * @param body response body
+	 * @return settings of the response
+	 * @throws IOException if the response cannot be read
+	 */
+	static List<Setting> parse(InputStream body) throws IOException {
+		JsonNode settingsNode = OBJECT_MAPPER.readTree(body).get("settings");
+		List<Setting> settings = new ArrayList<>();
+		Iterator<Map.Entry<String, JsonNode>> fields = settingsNode.fields();
+		while (fields.hasNext()) {
+			Map.Entry<String, JsonNode> entry = fields.next();
+			JsonNode props = entry.getValue();
+			Setting setting = new Setting();
+			setting.setName(entry.getKey());
+			if (props.has("isOn")) {
+				setting.setType(SettingType.TOGGLE);
+				setting.setValue(props.get("isOn").asBoolean());
+			} else if (props.has("selected")) {
+				setting.setType(SettingType.DROPDOWN);
+				setting.setValue(props.get("selected").asText());
+			} else if (props.has("value")) {
+				JsonNode valueNode = props.get("value");
+				if (valueNode.isNumber()) {
+					setting.setType(SettingType.NUMERIC);
+					setting.setValue(valueNode.numberValue());
+				} else {
+					setting.setType(SettingType.TEXT);
+					setting.setValue(valueNode.asText());
+				}
+			}
+			settings.add(setting);
+		}
+		return settings;
+	}
+}
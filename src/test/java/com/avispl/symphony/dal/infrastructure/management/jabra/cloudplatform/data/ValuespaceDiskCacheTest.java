@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.data;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.settings.valuespace.SettingDescriptor;
+import com.avispl.symphony.dal.infrastructure.management.jabra.cloudplatform.models.settings.valuespace.SettingsValuespace;
+
+/**
+ * Unit tests for the {@link ValuespaceDiskCache} class, storing the entries in a temporary directory.
+ *
+ * @author Symphony Dev Team
+ * @since 1.2.0
+ */
+@Tag("Mock")
+class ValuespaceDiskCacheTest {
+	private static final String URL_A = "https://cdn.jabra.com/valuespace/a";
+	private static final String URL_B = "https://cdn.jabra.com/valuespace/b";
+	private static final String URL_C = "https://cdn.jabra.com/valuespace/c";
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void testRoundTrip() {
+		ValuespaceDiskCache cache = this.createCache(this.directory, Long.MAX_VALUE);
+		SettingsValuespace valuespace = valuespace();
+		cache.write(URL_A, valuespace);
+
+		SettingsValuespace cached = cache.read(URL_A);
+		Assertions.assertEquals(valuespace, cached);
+		Assertions.assertTrue(cached.descriptors().containsKey(null), "A setting without a name is kept");
+		Assertions.assertEquals(1, cache.getHits());
+	}
+
+	@Test
+	void testMissingEntry() {
+		ValuespaceDiskCache cache = this.createCache(this.directory, Long.MAX_VALUE);
+		Assertions.assertNull(cache.read(URL_A));
+		cache.write(URL_A, valuespace());
+		Assertions.assertNull(cache.read(URL_B));
+		Assertions.assertEquals(0, cache.getHits());
+	}
+
+	@Test
+	void testCorruptedPayloadIsRejected() throws IOException {
+		ValuespaceDiskCache cache = this.createCache(this.directory, Long.MAX_VALUE);
+		cache.write(URL_A, valuespace());
+		Path file = this.entries(this.directory).get(0);
+		byte[] bytes = Files.readAllBytes(file);
+		bytes[bytes.length - 12] ^= 0x01;
+		Files.write(file, bytes);
+
+		Assertions.assertNull(cache.read(URL_A));
+		Assertions.assertFalse(Files.exists(file), "A corrupted entry is deleted");
+		Assertions.assertEquals(0, cache.getHits());
+	}
+
+	@Test
+	void testTruncatedEntryIsRejected() throws IOException {
+		ValuespaceDiskCache cache = this.createCache(this.directory, Long.MAX_VALUE);
+		cache.write(URL_A, valuespace());
+		Path file = this.entries(this.directory).get(0);
+		byte[] bytes = Files.readAllBytes(file);
+		Files.write(file, Arrays.copyOf(bytes, bytes.length / 2));
+
+		Assertions.assertNull(cache.read(URL_A));
+		Assertions.assertFalse(Files.exists(file));
+	}
+
+	@Test
+	void testUnexpectedHeaderIsRejected() throws IOException {
+		ValuespaceDiskCache cache = this.createCache(this.directory, Long.MAX_VALUE);
+		cache.write(URL_A, valuespace());
+		Path file = this.entries(this.directory).get(0);
+		byte[] bytes = Files.readAllBytes(file);
+		bytes[4]++;
+		Files.write(file, bytes);
+
+		Assertions.assertNull(cache.read(URL_A), "An entry of another format version is rejected");
+		Assertions.assertFalse(Files.exists(file));
+	}
+
+	@Test
+	void testEntryOfAnotherUrlIsRejected() throws IOException {
+		Path otherDirectory = this.directory.resolve("other");
+		ValuespaceDiskCache cache = this.createCache(this.directory, Long.MAX_VALUE);
+		cache.write(URL_A, valuespace());
+		ValuespaceDiskCache otherCache = this.createCache(otherDirectory, Long.MAX_VALUE);
+		otherCache.write(URL_B, valuespace());
+		Path file = this.entries(this.directory).get(0);
+		Files.copy(this.entries(otherDirectory).get(0), file, StandardCopyOption.REPLACE_EXISTING);
+
+		Assertions.assertNull(cache.read(URL_A), "An entry stored under a colliding file name is rejected");
+		Assertions.assertFalse(Files.exists(file));
+	}
+
+	@Test
+	void testLeastRecentlyUsedEntriesAreEvictedAboveSizeCap() throws IOException {
+		Path sizingDirectory = this.directory.resolve("sizing");
+		ValuespaceDiskCache sizingCache = this.createCache(sizingDirectory, Long.MAX_VALUE);
+		sizingCache.write(URL_A, valuespace());
+		long entrySize = Files.size(this.entries(sizingDirectory).get(0));
+
+		ValuespaceDiskCache cache = this.createCache(this.directory, 2 * entrySize);
+		long now = System.currentTimeMillis();
+		cache.write(URL_A, valuespace());
+		this.setLastModifiedTime(now - 20000);
+		cache.write(URL_B, valuespace());
+		this.setLastModifiedTime(now - 10000);
+		Assertions.assertEquals(2, this.entries(this.directory).size());
+
+		Assertions.assertNotNull(cache.read(URL_A), "Reading an entry marks it as recently used");
+		cache.write(URL_C, valuespace());
+
+		Assertions.assertEquals(2, this.entries(this.directory).size());
+		Assertions.assertNull(cache.read(URL_B));
+		Assertions.assertNotNull(cache.read(URL_A));
+		Assertions.assertNotNull(cache.read(URL_C));
+	}
+
+	private ValuespaceDiskCache createCache(Path cacheDirectory, long maxSizeBytes) {
+		return new ValuespaceDiskCache(cacheDirectory, maxSizeBytes, new DescriptorInterner());
+	}
+
+	/**
+	 * Lists the entry files of the cache directory.
+	 */
+	private List<Path> entries(Path cacheDirectory) throws IOException {
+		try (Stream<Path> files = Files.list(cacheDirectory)) {
+			return files.filter(path -> path.getFileName().toString().endsWith(".vsc")).collect(Collectors.toList());
+		}
+	}
+
+	/**
+	 * Sets the last modified time of the entries not set yet, which are the ones written after the previous call.
+	 */
+	private void setLastModifiedTime(long timeMs) throws IOException {
+		for (Path entry : this.entries(this.directory)) {
+			if (Files.getLastModifiedTime(entry).toMillis() > timeMs) {
+				Files.setLastModifiedTime(entry, FileTime.fromMillis(timeMs));
+			}
+		}
+	}
+
+	private static SettingsValuespace valuespace() {
+		Map<String, SettingDescriptor> descriptors = new HashMap<>();
+		descriptors.put("videoMode", new SettingDescriptor(new SettingDescriptor.DropdownValuespace(true, List.of("Off", "Speaker framing", "Group framing"))));
+		descriptors.put("brightness", new SettingDescriptor(new SettingDescriptor.NumberValuespace(false, -10, 10)));
+		descriptors.put("roomName", new SettingDescriptor(new SettingDescriptor.TextValuespace(false, 1, 64)));
+		descriptors.put(null, new SettingDescriptor(new SettingDescriptor.NumberValuespace(false, 0, 1)));
+		return new SettingsValuespace(descriptors);
+	}
+}